@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.processor.FramingProcessor;
+import com.apicatalog.jsonld.test.JsonLdManifestLoader;
+
+/**
+ * Measures {@link FramingProcessor} over the W3C framing test suite and synthetic documents.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FramingBenchmark {
+
+    @Param({ "1000" })
+    int nodes;
+
+    List<JsonLdSuite.Case> suite;
+
+    Document document;
+
+    Document frame;
+
+    JsonLdOptions options;
+
+    @Setup
+    public void setup() throws JsonLdError {
+
+        suite = JsonLdSuite.load(JsonLdManifestLoader.JSON_LD_FRAMING_BASE, "frame-manifest.jsonld", (testCase, options) -> FramingProcessor.frame(testCase.input, testCase.frame, options));
+
+        document = JsonDocument.of(SyntheticDocument.graph(nodes));
+        frame = JsonDocument.of(SyntheticDocument.frame());
+        options = new JsonLdOptions();
+    }
+
+    @Benchmark
+    public void suite(final Blackhole blackhole) throws JsonLdError {
+        for (final JsonLdSuite.Case testCase : suite) {
+            blackhole.consume(testCase.run());
+        }
+    }
+
+    @Benchmark
+    public Object synthetic() throws JsonLdError {
+        return FramingProcessor.frame(document, frame, options);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.document.RdfDocument;
+import com.apicatalog.jsonld.processor.FromRdfProcessor;
+import com.apicatalog.jsonld.processor.ToRdfProcessor;
+import com.apicatalog.jsonld.test.JsonLdManifestLoader;
+
+/**
+ * Measures {@link FromRdfProcessor} over the W3C fromRdf test suite and synthetic datasets.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FromRdfBenchmark {
+
+    @Param({ "1000" })
+    int nodes;
+
+    List<JsonLdSuite.Case> suite;
+
+    Document document;
+
+    JsonLdOptions options;
+
+    @Setup
+    public void setup() throws JsonLdError {
+
+        suite = JsonLdSuite.load(JsonLdManifestLoader.JSON_LD_API_BASE, "fromRdf-manifest.jsonld", (testCase, options) -> FromRdfProcessor.fromRdf(testCase.input, options));
+
+        options = new JsonLdOptions();
+        document = RdfDocument.of(ToRdfProcessor.toRdf(JsonDocument.of(SyntheticDocument.graph(nodes)), options));
+    }
+
+    @Benchmark
+    public void suite(final Blackhole blackhole) throws JsonLdError {
+        for (final JsonLdSuite.Case testCase : suite) {
+            blackhole.consume(testCase.run());
+        }
+    }
+
+    @Benchmark
+    public Object synthetic() throws JsonLdError {
+        return FromRdfProcessor.fromRdf(document, options);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.benchmark;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.loader.LRUDocumentCache;
+import com.apicatalog.jsonld.loader.ZipResourceLoader;
+import com.apicatalog.jsonld.test.JsonLdManifestLoader;
+import com.apicatalog.jsonld.test.JsonLdTestCase;
+import com.apicatalog.jsonld.test.JsonLdTestCase.Type;
+
+/**
+ * Positive evaluation tests of a bundled W3C test suite manifest. Documents
+ * are loaded once and kept in memory, so a benchmark measures processing only.
+ */
+final class JsonLdSuite {
+
+    @FunctionalInterface
+    interface Method {
+        Object invoke(JsonLdTestCase testCase, JsonLdOptions options) throws JsonLdError;
+    }
+
+    static final class Case {
+
+        private final JsonLdTestCase testCase;
+        private final JsonLdOptions options;
+        private final Method method;
+
+        Case(final JsonLdTestCase testCase, final JsonLdOptions options, final Method method) {
+            this.testCase = testCase;
+            this.options = options;
+            this.method = method;
+        }
+
+        Object run() throws JsonLdError {
+            return method.invoke(testCase, options);
+        }
+    }
+
+    private JsonLdSuite() {
+    }
+
+    /**
+     * Loads test cases processable by the given method. Test cases that require
+     * HTTP specifics or that fail are skipped.
+     *
+     * @param manifestBase a test suite base
+     * @param manifestName a manifest name
+     * @param method a processing method to benchmark
+     * @return a list of test cases ready to run
+     */
+    static List<Case> load(final String manifestBase, final String manifestName, final Method method) {
+        return JsonLdManifestLoader
+                .load(manifestBase, manifestName, new ZipResourceLoader())
+                .stream()
+                .filter(JsonLdTestCase.IS_NOT_V1_0)
+                .filter(testCase -> testCase.type.contains(Type.POSITIVE_EVALUATION_TEST))
+                .filter(testCase -> testCase.expectErrorCode == null
+                                        && testCase.redirectTo == null
+                                        && testCase.httpLink == null)
+                .map(testCase -> new Case(testCase, options(testCase), method))
+                .filter(JsonLdSuite::isProcessable)
+                .collect(Collectors.toList());
+    }
+
+    private static JsonLdOptions options(final JsonLdTestCase testCase) {
+
+        final JsonLdOptions options = testCase.getOptions();
+
+        options.setDocumentLoader(new LRUDocumentCache(options.getDocumentLoader(), 1024));
+
+        return options;
+    }
+
+    // the first run populates the document cache
+    private static boolean isProcessable(final Case testCase) {
+        try {
+            return testCase.run() != null;
+
+        } catch (JsonLdError e) {
+            return false;
+        }
+    }
+}
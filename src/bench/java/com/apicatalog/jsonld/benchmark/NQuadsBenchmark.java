@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.ZipFile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.processor.ToRdfProcessor;
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.io.error.RdfReaderException;
+import com.apicatalog.rdf.io.nquad.NQuadsReader;
+import com.apicatalog.rdf.io.nquad.NQuadsWriter;
+import com.apicatalog.rdf.io.nquad.ParallelNQuadsReader;
+import com.apicatalog.rdf.io.nquad.reader.NQuadsReaderTestCase;
+import com.apicatalog.rdf.io.nquad.reader.NQuadsReaderTestSuite;
+
+/**
+ * Measures {@link NQuadsReader}, {@link ParallelNQuadsReader} and
+ * {@link NQuadsWriter} over the positive
+ * tests of the W3C N-Quads test suite and synthetic datasets.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NQuadsBenchmark {
+
+    private static final String TEST_SUITE_NAME = "/n-quads-test-suite-20200629.zip";
+    private static final String TEST_CASE_BASE_PATH = "nquads-test-suite/";
+
+    @Param({ "1000" })
+    int nodes;
+
+    List<String> suite;
+
+    List<RdfDataset> suiteDatasets;
+
+    String synthetic;
+
+    byte[] syntheticBytes;
+
+    RdfDataset syntheticDataset;
+
+    @Setup
+    public void setup() throws IOException, URISyntaxException, RdfReaderException, JsonLdError {
+
+        final List<NQuadsReaderTestCase> testCases = new NQuadsReaderTestSuite(TEST_SUITE_NAME, TEST_CASE_BASE_PATH + "manifest.json")
+                .load()
+                .filter(testCase -> NQuadsReaderTestCase.Type.POSITIVE == testCase.getType())
+                .collect(Collectors.toList());
+
+        suite = new ArrayList<>(testCases.size());
+
+        try (final ZipFile zip = new ZipFile(new File(NQuadsBenchmark.class.getResource(TEST_SUITE_NAME).toURI()))) {
+            for (final NQuadsReaderTestCase testCase : testCases) {
+                try (final InputStream is = zip.getInputStream(zip.getEntry(TEST_CASE_BASE_PATH + testCase.getName() + ".nq"))) {
+                    suite.add(new String(is.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        suiteDatasets = new ArrayList<>(suite.size());
+
+        for (final String nquads : suite) {
+            suiteDatasets.add(read(nquads));
+        }
+
+        syntheticDataset = ToRdfProcessor.toRdf(JsonDocument.of(SyntheticDocument.graph(nodes)), new JsonLdOptions());
+        synthetic = write(syntheticDataset);
+        syntheticBytes = synthetic.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void readSuite(final Blackhole blackhole) throws RdfReaderException {
+        for (final String nquads : suite) {
+            blackhole.consume(read(nquads));
+        }
+    }
+
+    @Benchmark
+    public void writeSuite(final Blackhole blackhole) throws IOException {
+        for (final RdfDataset dataset : suiteDatasets) {
+            blackhole.consume(write(dataset));
+        }
+    }
+
+    @Benchmark
+    public RdfDataset readSynthetic() throws RdfReaderException {
+        return read(synthetic);
+    }
+
+    @Benchmark
+    public RdfDataset readSyntheticParallel() throws IOException, RdfReaderException {
+        return new ParallelNQuadsReader(new ByteArrayInputStream(syntheticBytes), ForkJoinPool.commonPool(), 64 * 1024).readDataset();
+    }
+
+    @Benchmark
+    public String writeSynthetic() throws IOException {
+        return write(syntheticDataset);
+    }
+
+    private static RdfDataset read(final String nquads) throws RdfReaderException {
+        return new NQuadsReader(new StringReader(nquads)).readDataset();
+    }
+
+    private static String write(final RdfDataset dataset) throws IOException {
+
+        final StringWriter writer = new StringWriter();
+
+        new NQuadsWriter(writer).write(dataset);
+
+        return writer.toString();
+    }
+}
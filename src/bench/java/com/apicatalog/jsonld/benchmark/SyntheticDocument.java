@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.benchmark;
+
+import com.apicatalog.jsonld.lang.Keywords;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+
+/**
+ * Generates large JSON-LD documents of a given size. Each node has a type,
+ * typed and language tagged literals, references to other nodes and a list.
+ */
+final class SyntheticDocument {
+
+    static final String BASE = "https://example.org/";
+
+    private SyntheticDocument() {
+    }
+
+    static JsonObject context() {
+        return Json.createObjectBuilder()
+                .add(Keywords.CONTEXT, Json.createObjectBuilder()
+                        .add(Keywords.VOCAB, BASE + "vocab#")
+                        .add("ex", BASE)
+                        .add("xsd", "http://www.w3.org/2001/XMLSchema#")
+                        .add("name", "ex:name")
+                        .add("age", Json.createObjectBuilder()
+                                .add(Keywords.ID, "ex:age")
+                                .add(Keywords.TYPE, "xsd:integer"))
+                        .add("knows", Json.createObjectBuilder()
+                                .add(Keywords.ID, "ex:knows")
+                                .add(Keywords.TYPE, Keywords.ID))
+                        .add("label", Json.createObjectBuilder()
+                                .add(Keywords.ID, "ex:label")
+                                .add(Keywords.CONTAINER, Keywords.LANGUAGE))
+                        .add("tags", Json.createObjectBuilder()
+                                .add(Keywords.ID, "ex:tags")
+                                .add(Keywords.CONTAINER, Keywords.LIST)))
+                .build();
+    }
+
+    // references are not embedded, otherwise each node embeds a chain of all nodes
+    static JsonObject frame() {
+        return Json.createObjectBuilder(context())
+                .add(Keywords.TYPE, "Person")
+                .add("knows", Json.createObjectBuilder()
+                        .add(Keywords.EMBED, Keywords.NEVER))
+                .build();
+    }
+
+    static JsonObject graph(final int nodes) {
+
+        final JsonArrayBuilder graph = Json.createArrayBuilder();
+
+        for (int i = 0; i < nodes; i++) {
+            graph.add(Json.createObjectBuilder()
+                    .add(Keywords.ID, "ex:n" + i)
+                    .add(Keywords.TYPE, "Person")
+                    .add("name", "Node " + i)
+                    .add("age", String.valueOf(i % 100))
+                    .add("knows", Json.createArrayBuilder()
+                            .add("ex:n" + ((i + 1) % nodes))
+                            .add("ex:n" + ((i * 7) % nodes)))
+                    .add("label", Json.createObjectBuilder()
+                            .add("en", "Node " + i)
+                            .add("cs", "Uzel " + i))
+                    .add("tags", Json.createArrayBuilder()
+                            .add("t" + (i % 10))
+                            .add("t" + (i % 20))
+                            .add(i)));
+        }
+
+        return Json.createObjectBuilder(context())
+                .add(Keywords.GRAPH, graph)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.benchmark;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.apicatalog.rdf.lang.XsdNumbers;
+
+/**
+ * Compares {@link XsdNumbers#formatDouble(double)} with the
+ * {@link DecimalFormat} over {@link BigDecimal} formerly used to create
+ * <code>xsd:double</code> literals.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XsdDoubleBenchmark {
+
+    DecimalFormat decimalFormat;
+
+    double[] values;
+
+    BigDecimal[] decimals;
+
+    @Setup
+    public void setup() {
+
+        decimalFormat = new DecimalFormat("0.0##############E0", new DecimalFormatSymbols(Locale.ENGLISH));
+        decimalFormat.setMinimumFractionDigits(1);
+
+        final Random random = new Random(42);
+
+        values = new double[1024];
+        decimals = new BigDecimal[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt() / Math.pow(10, random.nextInt(10));
+            decimals[i] = BigDecimal.valueOf(values[i]);
+        }
+    }
+
+    @Benchmark
+    public void xsdNumbers(final Blackhole blackhole) {
+        for (final double value : values) {
+            blackhole.consume(XsdNumbers.formatDouble(value));
+        }
+    }
+
+    @Benchmark
+    public void decimalFormat(final Blackhole blackhole) {
+        for (final BigDecimal decimal : decimals) {
+            blackhole.consume(decimalFormat.format(decimal));
+        }
+    }
+}
@@ -17,9 +17,12 @@ package com.apicatalog.jsonld;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.context.ActiveContextKey;
 import com.apicatalog.jsonld.context.cache.Cache;
-import com.apicatalog.jsonld.context.cache.LruCache;
+import com.apicatalog.jsonld.context.cache.ConcurrentCache;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.json.JsonProvider;
@@ -49,6 +52,7 @@ public final class JsonLdOptions {
     public static final boolean DEFAULT_RDF_STAR = false;
     public static final boolean DEFAULT_NUMERIC_ID = false;
     public static final boolean DEFAULT_URI_VALIDATION = true;
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
 
     /**
      * The base IRI to use when expanding or compacting the document. If set, this
@@ -123,10 +127,17 @@ public final class JsonLdOptions {
     // document cache
     private Cache<String, Document> documentCache;
 
+    // processed remote contexts cache
+    private Cache<ActiveContextKey, ActiveContext> activeContextCache;
+
     private boolean uriValidation;
     
     private Duration timeout;
 
+    private Executor executor;
+
+    private int parallelThreshold;
+
     public JsonLdOptions() {
         this(SchemeRouter.defaultInstance());
     }
@@ -159,10 +170,13 @@ public final class JsonLdOptions {
 
         // custom
         this.numericId = DEFAULT_NUMERIC_ID;
-        this.contextCache = new LruCache<>(256);
+        this.contextCache = new ConcurrentCache<>(256);
         this.documentCache = null;
+        this.activeContextCache = null;
         this.uriValidation = DEFAULT_URI_VALIDATION;
         this.timeout = null;
+        this.executor = null;
+        this.parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
     }
 
     public JsonLdOptions(JsonLdOptions options) {
@@ -193,8 +207,11 @@ public final class JsonLdOptions {
         this.numericId = options.numericId;
         this.contextCache = options.contextCache;
         this.documentCache = options.documentCache;
+        this.activeContextCache = options.activeContextCache;
         this.uriValidation = options.uriValidation;
         this.timeout = options.timeout;
+        this.executor = options.executor;
+        this.parallelThreshold = options.parallelThreshold;
     }
 
     /**
@@ -448,6 +465,32 @@ public final class JsonLdOptions {
         this.documentCache = documentCache;
     }
 
+    /**
+     * A cache of processed remote contexts. Unlike {@link #getContextCache()},
+     * which keeps raw <code>@context</code> values, the cache keeps fully built
+     * active contexts so a remote context is not re-processed by subsequent
+     * calls sharing the options.
+     *
+     * @return the cache or <code>null</code> if not set
+     * 
+     * @since 1.5.0
+     */
+    public Cache<ActiveContextKey, ActiveContext> getActiveContextCache() {
+        return activeContextCache;
+    }
+
+    /**
+     * Set a cache of processed remote contexts. Disabled by default. Please note,
+     * a cached context is not re-fetched until evicted from the cache.
+     *
+     * @param activeContextCache a cache or <code>null</code> to disable caching
+     * 
+     * @since 1.5.0
+     */
+    public void setActiveContextCache(Cache<ActiveContextKey, ActiveContext> activeContextCache) {
+        this.activeContextCache = activeContextCache;
+    }
+
     public boolean isRdfStar() {
         return rdfStar;
     }
@@ -523,4 +566,68 @@ public final class JsonLdOptions {
     public void setTimeout(Duration timeout) {
         this.timeout = timeout;
     }
-}
\ No newline at end of file
+
+    /**
+     * An executor used to expand and flatten large documents in parallel.
+     *
+     * @return the executor, or <code>null</code> if the processing is
+     *         sequential
+     *
+     * @since 1.5.0
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Enables parallel processing of large documents, e.g. with
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}. Disabled by
+     * default.
+     * <p>
+     * A top-level array, or a <code>@graph</code>, having at least
+     * {@link #getParallelThreshold()} members is expanded in chunks. The order
+     * of the expanded members, errors and the timeout are the same as of the
+     * sequential expansion.
+     * </p>
+     * <p>
+     * A node map of an expanded document having at least
+     * {@link #getParallelThreshold()} top-level elements is built in
+     * partitions when flattening. Blank node identifiers and the flattened
+     * output are the same as of the sequential flattening.
+     * </p>
+     *
+     * @param executor an executor, or <code>null</code> to process sequentially
+     *
+     * @since 1.5.0
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * The minimal number of array members processed in parallel if
+     * {@link #getExecutor()} is set.
+     *
+     * @return the threshold, {@value #DEFAULT_PARALLEL_THRESHOLD} by
+     *         default
+     *
+     * @since 1.5.0
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Set the minimal number of array members processed in parallel.
+     *
+     * @param threshold a positive number of members
+     *
+     * @since 1.5.0
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The threshold must be a positive number but is [" + threshold + "].");
+        }
+        this.parallelThreshold = threshold;
+    }
+}
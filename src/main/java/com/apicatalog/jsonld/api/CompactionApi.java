@@ -15,16 +15,20 @@
  */
 package com.apicatalog.jsonld.api;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URI;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.json.JsonProvider;
 import com.apicatalog.jsonld.loader.DocumentLoader;
 import com.apicatalog.jsonld.processor.CompactionProcessor;
 
 import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
 
 public final class CompactionApi implements CommonApi<CompactionApi>, LoaderApi<CompactionApi> {
 
@@ -187,4 +191,68 @@ public final class CompactionApi implements CommonApi<CompactionApi>, LoaderApi<
 
         throw new IllegalStateException();
     }
+
+    /**
+     * Writes the result of compaction to the given stream, each top-level
+     * node as soon as it is compacted. The stream is not closed.
+     *
+     * @param os receiving the compacted document
+     * @throws JsonLdError if the compaction has failed
+     *
+     * @since 1.5.0
+     */
+    public void writeTo(final OutputStream os) throws JsonLdError {
+        writeTo(JsonProvider.instance().createGenerator(os));
+    }
+
+    /**
+     * Writes the result of compaction to the given writer, each top-level
+     * node as soon as it is compacted. The writer is not closed.
+     *
+     * @param writer receiving the compacted document
+     * @throws JsonLdError if the compaction has failed
+     *
+     * @since 1.5.0
+     */
+    public void writeTo(final Writer writer) throws JsonLdError {
+        writeTo(JsonProvider.instance().createGenerator(writer));
+    }
+
+    /**
+     * Writes the result of compaction to the given generator, each top-level
+     * node as soon as it is compacted, without building {@link JsonObject}
+     * representing the compacted document. The generator is flushed but not
+     * closed.
+     *
+     * @param generator receiving the compacted document
+     * @throws JsonLdError if the compaction has failed
+     *
+     * @since 1.5.0
+     */
+    public void writeTo(final JsonGenerator generator) throws JsonLdError {
+
+        if (document != null) {
+            if (context != null)  {
+                CompactionProcessor.compact(document, context, options, generator);
+                return;
+            }
+            if (contextUri != null) {
+                CompactionProcessor.compact(document, contextUri, options, generator);
+                return;
+            }
+        }
+
+        if (documentUri != null) {
+            if (context != null)  {
+                CompactionProcessor.compact(documentUri, context, options, generator);
+                return;
+            }
+            if (contextUri != null)  {
+                CompactionProcessor.compact(documentUri, contextUri, options, generator);
+                return;
+            }
+        }
+
+        throw new IllegalStateException();
+    }
 }
@@ -15,6 +15,8 @@
  */
 package com.apicatalog.jsonld.api;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URI;
 
 import com.apicatalog.jsonld.JsonLdError;
@@ -22,12 +24,14 @@ import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.json.JsonProvider;
 import com.apicatalog.jsonld.loader.DocumentLoader;
 import com.apicatalog.jsonld.processor.ExpansionProcessor;
 import com.apicatalog.jsonld.uri.UriUtils;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonStructure;
+import jakarta.json.stream.JsonGenerator;
 
 public final class ExpansionApi implements CommonApi<ExpansionApi>, LoaderApi<ExpansionApi>, ContextApi<ExpansionApi> {
 
@@ -136,6 +140,55 @@ public final class ExpansionApi implements CommonApi<ExpansionApi>, LoaderApi<Ex
         throw new IllegalStateException();
     }
 
+    /**
+     * Writes the result of the document expansion to the given stream, each
+     * top-level node as soon as it is expanded. The stream is not closed.
+     *
+     * @param os receiving the expanded document
+     * @throws JsonLdError if the expansion has failed
+     *
+     * @since 1.5.0
+     */
+    public void writeTo(final OutputStream os) throws JsonLdError {
+        writeTo(JsonProvider.instance().createGenerator(os));
+    }
+
+    /**
+     * Writes the result of the document expansion to the given writer, each
+     * top-level node as soon as it is expanded. The writer is not closed.
+     *
+     * @param writer receiving the expanded document
+     * @throws JsonLdError if the expansion has failed
+     *
+     * @since 1.5.0
+     */
+    public void writeTo(final Writer writer) throws JsonLdError {
+        writeTo(JsonProvider.instance().createGenerator(writer));
+    }
+
+    /**
+     * Writes the result of the document expansion to the given generator, each
+     * top-level node as soon as it is expanded, without building
+     * {@link JsonArray} representing the expanded document. The generator is
+     * flushed but not closed.
+     *
+     * @param generator receiving the expanded document
+     * @throws JsonLdError if the expansion has failed
+     *
+     * @since 1.5.0
+     */
+    public void writeTo(final JsonGenerator generator) throws JsonLdError {
+        if (document != null) {
+            ExpansionProcessor.expand(document, options, generator);
+
+        } else if (documentUri != null) {
+            ExpansionProcessor.expand(documentUri, options, generator);
+
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
     /**
      * Experimental: Accept numeric @id. Disabled by default.
      *
@@ -27,6 +27,8 @@ import com.apicatalog.jsonld.loader.DocumentLoader;
 import com.apicatalog.jsonld.processor.ToRdfProcessor;
 import com.apicatalog.jsonld.uri.UriUtils;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfQuadConsumer;
+import com.apicatalog.rdf.io.nquad.NQuadsWriter;
 
 import jakarta.json.JsonStructure;
 
@@ -169,6 +171,36 @@ public final class ToRdfApi implements CommonApi<ToRdfApi>, LoaderApi<ToRdfApi>,
         throw new IllegalArgumentException();
     }
 
+    /**
+     * Emit <code>N-Quads</code> to the given consumer as they are produced,
+     * instead of building {@link RdfDataset}. A consumer can be e.g.
+     * {@link NQuadsWriter}, use {@link RdfQuadConsumer#distinct(RdfQuadConsumer)}
+     * to skip duplicate statements.
+     *
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws JsonLdError if the transformation has failed
+     *
+     * @since 1.5.0
+     */
+    public void provide(RdfQuadConsumer consumer) throws JsonLdError {
+
+        if (consumer == null) {
+            throw new IllegalArgumentException("Parameter 'consumer' is null.");
+        }
+
+        if (documentUri != null) {
+            ToRdfProcessor.toRdf(documentUri, options, consumer);
+            return;
+        }
+
+        if (document != null) {
+            ToRdfProcessor.toRdf(document, options, consumer);
+            return;
+        }
+
+        throw new IllegalArgumentException();
+    }
+
     /**
      * Experimental: Accept numeric @id. Disabled by default.
      *
@@ -15,10 +15,8 @@
  */
 package com.apicatalog.jsonld.compaction;
 
-import java.net.URI;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Map.Entry;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -27,6 +25,7 @@ import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.context.ActiveContext;
 import com.apicatalog.jsonld.context.InverseContext;
 import com.apicatalog.jsonld.context.TermDefinition;
+import com.apicatalog.jsonld.context.UriCompactionMemo;
 import com.apicatalog.jsonld.json.JsonUtils;
 import com.apicatalog.jsonld.lang.BlankNode;
 import com.apicatalog.jsonld.lang.GraphObject;
@@ -34,7 +33,7 @@ import com.apicatalog.jsonld.lang.Keywords;
 import com.apicatalog.jsonld.lang.ListObject;
 import com.apicatalog.jsonld.lang.NodeObject;
 import com.apicatalog.jsonld.lang.ValueObject;
-import com.apicatalog.jsonld.uri.UriRelativizer;
+import com.apicatalog.jsonld.uri.UriScanner;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonString;
@@ -99,6 +98,11 @@ public final class UriCompaction {
         // 3.
         InverseContext inverseContext = activeContext.getInverseContext();
 
+        // the value shape computed by 4., a result depends only on it
+        List<String> containers = null;
+        String typeLanguage = null;
+        List<String> preferredValues = null;
+
         // 4.
         if (vocab && inverseContext.contains(variable)) {
 
@@ -128,10 +132,10 @@ public final class UriCompaction {
             }
 
             // 4.3.
-            Collection<String> containers = new ArrayList<>();
+            containers = new ArrayList<>();
 
             // 4.4.
-            String typeLanguage = Keywords.LANGUAGE;
+            typeLanguage = Keywords.LANGUAGE;
             String typeLanguageValue = Keywords.NULL;
 
             // 4.5.
@@ -386,7 +390,7 @@ public final class UriCompaction {
             }
 
             // 4.14.
-            Collection<String> preferredValues = new ArrayList<>();
+            preferredValues = new ArrayList<>();
 
             // 4.15.
             if (Keywords.REVERSE.equals(typeLanguageValue)) {
@@ -459,7 +463,27 @@ public final class UriCompaction {
                 preferredValues.add(preferredValue.substring(index));
             }
 
-            // 4.20.
+        }
+
+        final int flags = (vocab ? 1 : 0) | (JsonUtils.isNull(value) ? 2 : 0);
+
+        final UriCompactionMemo memo = activeContext.getUriCompactionMemo();
+
+        String result = memo.get(variable, flags, typeLanguage, containers, preferredValues);
+
+        if (result == null) {
+            result = select(variable, typeLanguage, containers, preferredValues);
+            memo.put(variable, flags, typeLanguage, containers, preferredValues, result);
+        }
+
+        return result;
+    }
+
+    private String select(final String variable, final String typeLanguage, final List<String> containers, final List<String> preferredValues) throws JsonLdError {
+
+        // 4.20.
+        if (containers != null) {
+
             final Optional<String> term = activeContext.termSelector(variable, containers, typeLanguage).match(preferredValues);
 
             // 4.21.
@@ -484,22 +508,16 @@ public final class UriCompaction {
         String compactUri = null;
 
         // 7.
-        for (Entry<String, TermDefinition> termEntry : activeContext.getTermsMapping().entrySet()) {
+        for (final String term : activeContext.getPrefixIndex().match(variable)) {
 
-            TermDefinition termDefinition = termEntry.getValue();
-
-            // 7.1.
-            if (termDefinition.getUriMapping() == null
-                    || variable.equals(termDefinition.getUriMapping())
-                    || !variable.startsWith(termDefinition.getUriMapping())
-                    || termDefinition.isNotPrefix()) {
-                continue;
-            }
+            // 7.1. the index contains only prefix terms with an IRI mapping being a
+            // proper prefix of the variable
+            final String uriMapping = activeContext.getTerm(term).map(TermDefinition::getUriMapping).get();
 
             // 7.2.
-            String compactUriCandidate = termEntry.getKey()
+            String compactUriCandidate = term
                     .concat(":")
-                    .concat(variable.substring(termDefinition.getUriMapping().length()));
+                    .concat(variable.substring(uriMapping.length()));
 
             // 7.3.
             if (((compactUri == null || (compactUriCandidate.compareTo(compactUri) < 0))
@@ -520,22 +538,14 @@ public final class UriCompaction {
         }
 
         // 9.
-        try {
-            final URI uri = URI.create(variable);
-
-            if (uri != null
-                    && uri.isAbsolute()
-                    && uri.getScheme() != null
-                    && uri.getAuthority() == null
-                    && activeContext.getTerm(uri.getScheme()).filter(TermDefinition::isPrefix).isPresent()) {
-                throw new JsonLdError(JsonLdErrorCode.IRI_CONFUSED_WITH_PREFIX);
-            }
-        } catch (IllegalArgumentException e) {
-            /* variable is not URI */ }
+        if (UriScanner.classify(variable) == UriScanner.Form.COMPACT_IRI_CANDIDATE
+                && activeContext.getTerm(variable.substring(0, variable.indexOf(':'))).filter(TermDefinition::isPrefix).isPresent()) {
+            throw new JsonLdError(JsonLdErrorCode.IRI_CONFUSED_WITH_PREFIX);
+        }
 
         // 10.
         if (!vocab && activeContext.getBaseUri() != null && !BlankNode.hasPrefix(variable)) {
-            final String relativeUri = UriRelativizer.relativize(activeContext.getBaseUri(), variable);
+            final String relativeUri = activeContext.getBase().relativize(variable);
 
             return Keywords.matchForm(relativeUri) ? "./".concat(relativeUri) : relativeUri;
         }
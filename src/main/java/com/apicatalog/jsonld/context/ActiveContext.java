@@ -17,7 +17,6 @@ package com.apicatalog.jsonld.context;
 
 import java.net.URI;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -27,6 +26,7 @@ import com.apicatalog.jsonld.expansion.UriExpansion;
 import com.apicatalog.jsonld.expansion.ValueExpansion;
 import com.apicatalog.jsonld.lang.DirectionType;
 import com.apicatalog.jsonld.processor.ProcessingRuntime;
+import com.apicatalog.jsonld.uri.BaseUri;
 
 import jakarta.json.JsonObject;
 
@@ -39,16 +39,28 @@ public final class ActiveContext {
 
     // the active term definitions which specify how keys and values have to be
     // interpreted
-    private final Map<String, TermDefinition> terms;
+    private final TermMap terms;
 
     // the current base IRI
     private URI baseUri;
 
+    // the base URI split into components, created lazily
+    private BaseUri base;
+
+    // memoized IRI expansion results, created lazily
+    private UriExpansionMemo uriExpansionMemo;
+
+    // memoized IRI compaction results, created lazily
+    private UriCompactionMemo uriCompactionMemo;
+
     // the original base URL
     private URI baseUrl;
 
     private InverseContext inverseContext;
 
+    // lazily built index of prefix terms
+    private PrefixIndex prefixIndex;
+
     // an optional previous context, used when a non-propagated context is defined.
     private ActiveContext previousContext;
 
@@ -75,21 +87,36 @@ public final class ActiveContext {
         this.baseUri = baseUri;
         this.baseUrl = baseUrl;
         this.previousContext = previousContext;
-        this.terms = new LinkedHashMap<>();
+        this.terms = new TermMap();
         this.runtime = runtime;
     }
 
     // copy constructor
     public ActiveContext(final ActiveContext origin) {
-        this.terms = new LinkedHashMap<>(origin.terms);
+        this(origin, origin.runtime);
+    }
+
+    /**
+     * Creates a copy of the given context bound to the given runtime. Used to
+     * re-use a context processed and cached by a different processing call.
+     *
+     * @param origin a context to copy
+     * @param runtime a runtime the copy is bound to
+     */
+    public ActiveContext(final ActiveContext origin, final ProcessingRuntime runtime) {
+        this.terms = origin.terms.copy();
         this.baseUri = origin.baseUri;
+        this.base = origin.base;
+        this.uriExpansionMemo = origin.uriExpansionMemo;
+        this.uriCompactionMemo = origin.uriCompactionMemo;
         this.baseUrl = origin.baseUrl;
         this.inverseContext = origin.inverseContext;
+        this.prefixIndex = origin.prefixIndex;
         this.previousContext = origin.previousContext;
         this.vocabularyMapping = origin.vocabularyMapping;
         this.defaultLanguage = origin.defaultLanguage;
         this.defaultBaseDirection = origin.defaultBaseDirection;
-        this.runtime = origin.runtime;
+        this.runtime = runtime;
     }
 
     public void createInverseContext() {
@@ -106,6 +133,10 @@ public final class ActiveContext {
 
     protected Optional<TermDefinition> removeTerm(final String term) {
         if (terms.containsKey(term)) {
+            inverseContext = null;
+            prefixIndex = null;
+            uriExpansionMemo = null;
+            uriCompactionMemo = null;
             return Optional.of(terms.remove(term));
         }
         return Optional.empty();
@@ -127,6 +158,21 @@ public final class ActiveContext {
         return baseUri;
     }
 
+    /**
+     * The base URI pre-parsed for resolving and relativizing IRIs. An instance
+     * is shared by copies of the context.
+     *
+     * @return the base URI, or <code>null</code> if the context has no base URI
+     *
+     * @since 1.5.0
+     */
+    public BaseUri getBase() {
+        if (base == null && baseUri != null) {
+            base = BaseUri.of(baseUri);
+        }
+        return base;
+    }
+
     public String getVocabularyMapping() {
         return vocabularyMapping;
     }
@@ -141,12 +187,27 @@ public final class ActiveContext {
 
     public void setBaseUri(final URI baseUri) {
         this.baseUri = baseUri;
+        this.base = null;
+        this.uriExpansionMemo = null;
+        this.uriCompactionMemo = null;
     }
 
     public InverseContext getInverseContext() {
         return inverseContext;
     }
 
+    /**
+     * An index of terms usable as a prefix of a compact IRI. Built on first use.
+     *
+     * @return the index, never <code>null</code>
+     */
+    public PrefixIndex getPrefixIndex() {
+        if (prefixIndex == null) {
+            prefixIndex = PrefixIndex.of(terms);
+        }
+        return prefixIndex;
+    }
+
     public Map<String, TermDefinition> getTermsMapping() {
         return terms;
     }
@@ -155,6 +216,36 @@ public final class ActiveContext {
         return terms.keySet();
     }
 
+    /**
+     * A table of IRI expansion results computed with this context. The table is
+     * shared by copies of the context until a copy is modified.
+     *
+     * @return the memo table, never <code>null</code>
+     *
+     * @since 1.5.0
+     */
+    public UriExpansionMemo getUriExpansionMemo() {
+        if (uriExpansionMemo == null) {
+            uriExpansionMemo = new UriExpansionMemo();
+        }
+        return uriExpansionMemo;
+    }
+
+    /**
+     * A table of IRI compaction results computed with this context. The table
+     * is shared by copies of the context until a copy is modified.
+     *
+     * @return the memo table, never <code>null</code>
+     *
+     * @since 1.5.0
+     */
+    public UriCompactionMemo getUriCompactionMemo() {
+        if (uriCompactionMemo == null) {
+            uriCompactionMemo = new UriCompactionMemo();
+        }
+        return uriCompactionMemo;
+    }
+
     public ActiveContextBuilder newContext() {
         return ActiveContextBuilder.with(this);
     }
@@ -185,14 +276,20 @@ public final class ActiveContext {
 
     protected void setDefaultBaseDirection(final DirectionType defaultBaseDirection) {
         this.defaultBaseDirection = defaultBaseDirection;
+        this.inverseContext = null;
+        this.uriCompactionMemo = null;
     }
 
     protected void setDefaultLanguage(final String defaultLanguage) {
         this.defaultLanguage = defaultLanguage;
+        this.inverseContext = null;
+        this.uriCompactionMemo = null;
     }
 
     protected void setVocabularyMapping(final String vocabularyMapping) {
         this.vocabularyMapping = vocabularyMapping;
+        this.uriExpansionMemo = null;
+        this.uriCompactionMemo = null;
     }
 
     protected void setBaseUrl(final URI baseUrl) {
@@ -205,9 +302,14 @@ public final class ActiveContext {
 
     protected void setInverseContext(final InverseContext inverseContext) {
         this.inverseContext = inverseContext;
+        this.uriCompactionMemo = null;
     }
 
     protected void setTerm(final String term, final TermDefinition definition) {
+        inverseContext = null;
+        prefixIndex = null;
+        uriExpansionMemo = null;
+        uriCompactionMemo = null;
         terms.put(term, definition);
     }
 
@@ -26,6 +26,8 @@ import java.util.logging.Logger;
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.StringUtils;
+import com.apicatalog.jsonld.context.cache.Cache;
+import com.apicatalog.jsonld.context.cache.CacheLoader;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.http.ProfileConstants;
 import com.apicatalog.jsonld.json.JsonProvider;
@@ -492,92 +494,142 @@ public final class ActiveContextBuilder {
 
         remoteContexts.add(contextKey);
 
+        // a processed context can be re-used only if applied to an initial context
+        final ActiveContextKey activeContextKey = activeContextKey(contextKey);
+
+        if (activeContextKey != null) {
+
+            final ActiveContext cachedContext = result.runtime().getActiveContextCache().get(activeContextKey);
+
+            if (cachedContext != null) {
+                result = new ActiveContext(cachedContext, result.runtime());
+                return;
+            }
+        }
+
         // 5.2.4
-        if (activeContext.runtime().getContextCache() != null
-                && activeContext.runtime().getContextCache().containsKey(contextKey) && !validateScopedContext) {
+        final Cache<String, JsonValue> contextCache = activeContext.runtime().getContextCache();
+
+        final RemoteContextLoader loader = new RemoteContextLoader(contextUri);
+
+        // concurrent misses of the same context load it once
+        final JsonValue importedContext = contextCache != null
+                ? contextCache.get(contextKey, loader)
+                : loader.load(contextKey);
 
-            JsonValue cachedContext = activeContext.runtime().getContextCache().get(contextKey);
+        // 5.2.6
+        try {
             result = result
                     .newContext()
                     .remoteContexts(new ArrayList<>(remoteContexts))
                     .validateScopedContext(validateScopedContext)
-                    .create(cachedContext, contextUri);
-            return;
-        }
+                    .create(importedContext, loader.document != null
+                            ? loader.document.getDocumentUrl()
+                            : contextUri);
 
-        // 5.2.5.
-        if (activeContext.runtime().getDocumentLoader() == null) {
-            throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, "Document loader is null. Cannot fetch [" + contextUri + "].");
-        }
+            if (activeContextKey != null && result.getPreviousContext() == null) {
+
+                final ActiveContext processedContext = new ActiveContext(result);
+                processedContext.createInverseContext();
+                processedContext.getPrefixIndex();
+
+                result.runtime().getActiveContextCache().put(activeContextKey, processedContext);
+            }
 
-        Document remoteImport = null;
+        } catch (JsonLdError e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, e);
+        }
+    }
 
-        if (activeContext.runtime().getDocumentCache() != null
-                && activeContext.runtime().getDocumentCache().containsKey(contextKey)) {
+    private ActiveContextKey activeContextKey(final String contextKey) {
 
-            remoteImport = activeContext.runtime().getDocumentCache().get(contextKey);
+        if (result.runtime().getActiveContextCache() == null
+                || remoteContexts.size() != 1
+                || !result.getTerms().isEmpty()
+                || result.getVocabularyMapping() != null
+                || result.getDefaultLanguage() != null
+                || result.getDefaultBaseDirection() != null
+                || result.getPreviousContext() != null) {
+            return null;
         }
 
-        if (remoteImport == null) {
+        return new ActiveContextKey(
+                contextKey,
+                result.getBaseUri(),
+                result.getBaseUrl(),
+                result.runtime().isV10(),
+                result.runtime().isUriValidation(),
+                validateScopedContext);
+    }
 
-            DocumentLoaderOptions loaderOptions = new DocumentLoaderOptions();
-            loaderOptions.setProfile(ProfileConstants.CONTEXT);
-            loaderOptions.setRequestProfile(Arrays.asList(loaderOptions.getProfile()));
+    private final class RemoteContextLoader implements CacheLoader<String, JsonValue> {
 
-            try {
+        private final URI contextUri;
 
-                remoteImport = activeContext.runtime().getDocumentLoader().loadDocument(contextUri, loaderOptions);
+        // a loaded document, null if the context has been taken from a cache
+        private Document document;
 
-                // 5.2.5.1.
-            } catch (JsonLdError e) {
-                throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, "There wa a problem encountered loading a remote context [" + contextUri + "]", e);
+        RemoteContextLoader(final URI contextUri) {
+            this.contextUri = contextUri;
+        }
+
+        @Override
+        public JsonValue load(final String contextKey) throws JsonLdError {
+
+            // 5.2.5.
+            if (activeContext.runtime().getDocumentLoader() == null) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, "Document loader is null. Cannot fetch [" + contextUri + "].");
             }
 
+            final Document remoteImport = activeContext.runtime().getDocumentCache() != null
+                    ? activeContext.runtime().getDocumentCache().get(contextKey, key -> loadDocument())
+                    : loadDocument();
+
             if (remoteImport == null) {
                 throw new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Imported context is null.");
             }
-        }
 
-        final JsonStructure importedStructure = remoteImport.getJsonContent()
-                .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Imported context is null."));
+            final JsonStructure importedStructure = remoteImport.getJsonContent()
+                    .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Imported context is null."));
 
-        // 5.2.5.2.
-        if (JsonUtils.isNotObject(importedStructure)) {
-            throw new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Imported context is not valid Json Object [" + importedStructure.getValueType() + "].");
-        }
+            // 5.2.5.2.
+            if (JsonUtils.isNotObject(importedStructure)) {
+                throw new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Imported context is not valid Json Object [" + importedStructure.getValueType() + "].");
+            }
 
-        JsonValue importedContext = importedStructure.asJsonObject();
+            JsonValue importedContext = importedStructure.asJsonObject();
 
-        if (!importedContext.asJsonObject().containsKey(Keywords.CONTEXT)) {
-            throw new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Imported context does not contain @context key and is not valid JSON-LD context.");
-        }
+            if (!importedContext.asJsonObject().containsKey(Keywords.CONTEXT)) {
+                throw new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Imported context does not contain @context key and is not valid JSON-LD context.");
+            }
 
-        // 5.2.5.3.
-        importedContext = importedContext.asJsonObject().get(Keywords.CONTEXT);
+            // 5.2.5.3.
+            importedContext = importedContext.asJsonObject().get(Keywords.CONTEXT);
 
-        // remote @base from a remote context
-        if (JsonUtils.containsKey(importedContext, Keywords.BASE)) {
-            importedContext = JsonProvider.instance().createObjectBuilder(importedContext.asJsonObject()).remove(Keywords.BASE).build();
-        }
+            // remote @base from a remote context
+            if (JsonUtils.containsKey(importedContext, Keywords.BASE)) {
+                importedContext = JsonProvider.instance().createObjectBuilder(importedContext.asJsonObject()).remove(Keywords.BASE).build();
+            }
+
+            document = remoteImport;
 
-        if (activeContext.runtime().getDocumentCache() != null) {
-            activeContext.runtime().getDocumentCache().put(contextKey, remoteImport);
+            return importedContext;
         }
 
-        // 5.2.6
-        try {
-            result = result
-                    .newContext()
-                    .remoteContexts(new ArrayList<>(remoteContexts))
-                    .validateScopedContext(validateScopedContext)
-                    .create(importedContext, remoteImport.getDocumentUrl());
+        private Document loadDocument() throws JsonLdError {
 
-            if (result.runtime().getContextCache() != null && !validateScopedContext) {
-                result.runtime().getContextCache().put(contextKey, importedContext);
-            }
+            DocumentLoaderOptions loaderOptions = new DocumentLoaderOptions();
+            loaderOptions.setProfile(ProfileConstants.CONTEXT);
+            loaderOptions.setRequestProfile(Arrays.asList(loaderOptions.getProfile()));
 
-        } catch (JsonLdError e) {
-            throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, e);
+            try {
+
+                return activeContext.runtime().getDocumentLoader().loadDocument(contextUri, loaderOptions);
+
+                // 5.2.5.1.
+            } catch (JsonLdError e) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, "There wa a problem encountered loading a remote context [" + contextUri + "]", e);
+            }
         }
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import java.net.URI;
+import java.util.Objects;
+
+/**
+ * A key identifying a processed remote context. A processed context depends
+ * not only on the context URL but also on the base IRI it has been resolved
+ * against and on processing flags.
+ *
+ * @since 1.5.0
+ */
+public final class ActiveContextKey {
+
+    private final String contextUrl;
+
+    private final URI baseUri;
+
+    private final URI baseUrl;
+
+    private final boolean v10;
+
+    private final boolean uriValidation;
+
+    private final boolean validateScopedContext;
+
+    private final int hashCode;
+
+    public ActiveContextKey(final String contextUrl, final URI baseUri, final URI baseUrl, final boolean v10, final boolean uriValidation, final boolean validateScopedContext) {
+        this.contextUrl = contextUrl;
+        this.baseUri = baseUri;
+        this.baseUrl = baseUrl;
+        this.v10 = v10;
+        this.uriValidation = uriValidation;
+        this.validateScopedContext = validateScopedContext;
+        this.hashCode = Objects.hash(contextUrl, baseUri, baseUrl, v10, uriValidation, validateScopedContext);
+    }
+
+    public String getContextUrl() {
+        return contextUrl;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        final ActiveContextKey key = (ActiveContextKey) other;
+        return v10 == key.v10
+                && uriValidation == key.uriValidation
+                && validateScopedContext == key.validateScopedContext
+                && Objects.equals(contextUrl, key.contextUrl)
+                && Objects.equals(baseUri, key.baseUri)
+                && Objects.equals(baseUrl, key.baseUrl);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "ActiveContextKey[contextUrl=" + contextUrl + ", baseUri=" + baseUri + ", baseUrl=" + baseUrl + "]";
+    }
+}
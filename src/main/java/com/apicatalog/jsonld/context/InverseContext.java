@@ -15,30 +15,32 @@
  */
 package com.apicatalog.jsonld.context;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import com.apicatalog.jsonld.lang.Keywords;
+
+/**
+ * An inverse context. Containers, type/language selections and preferred
+ * values of a variable are kept in small arrays scanned linearly, a variable
+ * is usually mapped by a few terms only.
+ *
+ * @see <a href=
+ *      "https://www.w3.org/TR/json-ld11-api/#inverse-context-creation">Inverse
+ *      Context Creation</a>
+ */
 public final class InverseContext {
 
-    private final Map<String, Map<String, Map<String, Map<String, String>>>> context;
+    private static final int LANGUAGE = 0;
+    private static final int TYPE = 1;
+    private static final int ANY = 2;
 
-    public InverseContext() {
-        this.context = new LinkedHashMap<>();
-    }
-
-    private void set(final String variable, final String container, final String type, final String key, final String value) {
-        context.computeIfAbsent(variable, x -> new LinkedHashMap<>())
-                .computeIfAbsent(container, x -> new LinkedHashMap<>())
-                .computeIfAbsent(type, x -> new LinkedHashMap<>())
-                .put(key, value);
-    }
+    private final Map<String, Containers> context;
 
-    private boolean doesNotContain(final String variable, final String container, final String type, final String key) {
-        return !context.containsKey(variable)
-                || !context.get(variable).containsKey(container)
-                || !context.get(variable).get(container).containsKey(type)
-                || !context.get(variable).get(container).get(type).containsKey(key);
+    public InverseContext() {
+        this.context = new HashMap<>();
     }
 
     public boolean contains(final String variable) {
@@ -46,29 +48,158 @@ public final class InverseContext {
     }
 
     public boolean contains(final String variable, final String container, final String type) {
-        return context.containsKey(variable)
-                && context.get(variable).containsKey(container)
-                && context.get(variable).get(container).containsKey(type);
+        return selection(variable, container, type) != null;
     }
 
     public boolean contains(final String variable, final String container, final String type, final String key) {
-        return contains(variable)
-                && context.get(variable).containsKey(container)
-                && context.get(variable).get(container).containsKey(type)
-                && context.get(variable).get(container).get(type).containsKey(key);
+        final Selection selection = selection(variable, container, type);
+        return selection != null && selection.indexOf(key) != -1;
     }
 
     public InverseContext setIfAbsent(final String variable, final String container, final String type, final String key, final String value) {
-        if (doesNotContain(variable, container, type, key)) {
-            set(variable, container, type, key, value);
+
+        final int typeIndex = typeIndex(type);
+
+        if (typeIndex == -1) {
+            throw new IllegalArgumentException("An unknown type/language selection [" + type + "].");
+        }
+
+        final Selection[] selections = context
+                .computeIfAbsent(variable, x -> new Containers())
+                .getOrAdd(container);
+
+        if (selections[typeIndex] == null) {
+            selections[typeIndex] = new Selection();
         }
+
+        selections[typeIndex].setIfAbsent(key, value);
+
         return this;
     }
 
     public Optional<String> get(final String variable, final String container, final String type, final String key) {
-        if (doesNotContain(variable, container, type, key)) {
-            return Optional.empty();
+        return Optional.ofNullable(find(variable, container, type, key));
+    }
+
+    /**
+     * Returns a term mapped to the given variable, container, type/language
+     * selection and a preferred value.
+     *
+     * @param variable an IRI
+     * @param container a container mapping signature
+     * @param type {@link Keywords#LANGUAGE}, {@link Keywords#TYPE} or
+     *            {@link Keywords#ANY}
+     * @param key a preferred value
+     * @return a term or <code>null</code> if there is no such term
+     *
+     * @since 1.5.0
+     */
+    public String find(final String variable, final String container, final String type, final String key) {
+
+        final Selection selection = selection(variable, container, type);
+
+        if (selection == null) {
+            return null;
+        }
+
+        final int index = selection.indexOf(key);
+
+        return index != -1 ? selection.terms[index] : null;
+    }
+
+    private Selection selection(final String variable, final String container, final String type) {
+
+        final Containers containers = context.get(variable);
+
+        if (containers == null) {
+            return null;
+        }
+
+        final Selection[] selections = containers.get(container);
+
+        if (selections == null) {
+            return null;
+        }
+
+        final int typeIndex = typeIndex(type);
+
+        return typeIndex != -1 ? selections[typeIndex] : null;
+    }
+
+    private static final int typeIndex(final String type) {
+        switch (type) {
+        case Keywords.LANGUAGE:
+            return LANGUAGE;
+        case Keywords.TYPE:
+            return TYPE;
+        case Keywords.ANY:
+            return ANY;
+        default:
+            return -1;
+        }
+    }
+
+    // container signatures of a variable
+    private static final class Containers {
+
+        String[] keys = new String[2];
+        Selection[][] selections = new Selection[2][];
+        int size = 0;
+
+        Selection[] get(final String container) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(container)) {
+                    return selections[i];
+                }
+            }
+            return null;
+        }
+
+        Selection[] getOrAdd(final String container) {
+
+            Selection[] found = get(container);
+
+            if (found == null) {
+                if (size == keys.length) {
+                    keys = Arrays.copyOf(keys, size * 2);
+                    selections = Arrays.copyOf(selections, size * 2);
+                }
+                found = new Selection[3];
+                keys[size] = container;
+                selections[size++] = found;
+            }
+            return found;
+        }
+    }
+
+    // preferred values mapped to terms
+    private static final class Selection {
+
+        String[] keys = new String[2];
+        String[] terms = new String[2];
+        int size = 0;
+
+        int indexOf(final String key) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void setIfAbsent(final String key, final String term) {
+
+            if (indexOf(key) != -1) {
+                return;
+            }
+
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                terms = Arrays.copyOf(terms, size * 2);
+            }
+            keys[size] = key;
+            terms[size++] = term;
         }
-        return Optional.ofNullable(context.get(variable).get(container).get(type).get(key));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A radix tree of IRI mappings of terms that can be used as a prefix when
+ * creating a compact IRI. Allows to find all the candidate terms of an IRI in
+ * time proportional to the IRI length.
+ *
+ * @see <a href="https://www.w3.org/TR/json-ld11-api/#iri-compaction">IRI
+ *      Compaction, Step 7</a>
+ */
+public final class PrefixIndex {
+
+    private final Node root;
+
+    private PrefixIndex(final Node root) {
+        this.root = root;
+    }
+
+    public static PrefixIndex of(final Map<String, TermDefinition> terms) {
+
+        final Node root = new Node("");
+
+        int order = 0;
+
+        for (final Map.Entry<String, TermDefinition> term : terms.entrySet()) {
+
+            if (term.getValue().isPrefix() && term.getValue().getUriMapping() != null) {
+                root.insert(term.getValue().getUriMapping(), term.getKey(), order);
+            }
+
+            order++;
+        }
+
+        return new PrefixIndex(root);
+    }
+
+    /**
+     * Returns terms defined as a prefix having an IRI mapping that is a proper
+     * prefix of the given IRI. Terms are returned in the order they are defined
+     * in the active context.
+     *
+     * @param iri to match
+     * @return a list of terms, never <code>null</code>
+     */
+    public List<String> match(final String iri) {
+
+        List<Node> matches = null;
+
+        Node node = root;
+        int index = 0;
+
+        while (index < iri.length()) {
+
+            if (node.terms != null) {
+                if (matches == null) {
+                    matches = new ArrayList<>(2);
+                }
+                matches.add(node);
+            }
+
+            node = node.child(iri.charAt(index));
+
+            if (node == null || !iri.startsWith(node.label, index)) {
+                break;
+            }
+
+            index += node.label.length();
+        }
+
+        if (matches == null) {
+            return Collections.emptyList();
+        }
+
+        if (matches.size() == 1 && matches.get(0).terms.length == 1) {
+            return Collections.singletonList(matches.get(0).terms[0]);
+        }
+
+        return sort(matches);
+    }
+
+    private static List<String> sort(final List<Node> matches) {
+
+        final Map<Integer, String> ordered = new TreeMap<>();
+
+        for (final Node node : matches) {
+            for (int i = 0; i < node.terms.length; i++) {
+                ordered.put(node.orders[i], node.terms[i]);
+            }
+        }
+
+        return new ArrayList<>(ordered.values());
+    }
+
+    static final class Node {
+
+        // an edge label
+        String label;
+
+        char[] keys;
+        Node[] children;
+
+        // terms ending at the node, in the definition order
+        String[] terms;
+        int[] orders;
+
+        Node(final String label) {
+            this.label = label;
+            this.keys = null;
+            this.children = null;
+            this.terms = null;
+            this.orders = null;
+        }
+
+        Node child(final char key) {
+
+            if (keys == null) {
+                return null;
+            }
+
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void insert(final String uri, final String term, final int order) {
+
+            Node node = this;
+            int index = 0;
+
+            while (index < uri.length()) {
+
+                final Node child = node.child(uri.charAt(index));
+
+                if (child == null) {
+                    final Node leaf = new Node(uri.substring(index));
+                    leaf.addTerm(term, order);
+                    node.addChild(leaf);
+                    return;
+                }
+
+                final int common = commonPrefix(child.label, uri, index);
+
+                // split the edge
+                if (common < child.label.length()) {
+
+                    final Node split = new Node(child.label.substring(0, common));
+
+                    child.label = child.label.substring(common);
+                    split.addChild(child);
+
+                    node.replaceChild(split);
+                    node = split;
+
+                } else {
+                    node = child;
+                }
+
+                index += common;
+            }
+
+            node.addTerm(term, order);
+        }
+
+        private void addTerm(final String term, final int order) {
+            if (terms == null) {
+                terms = new String[] { term };
+                orders = new int[] { order };
+                return;
+            }
+            terms = Arrays.copyOf(terms, terms.length + 1);
+            orders = Arrays.copyOf(orders, orders.length + 1);
+            terms[terms.length - 1] = term;
+            orders[orders.length - 1] = order;
+        }
+
+        private void addChild(final Node child) {
+            if (keys == null) {
+                keys = new char[] { child.label.charAt(0) };
+                children = new Node[] { child };
+                return;
+            }
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = child.label.charAt(0);
+            children[children.length - 1] = child;
+        }
+
+        private void replaceChild(final Node child) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == child.label.charAt(0)) {
+                    children[i] = child;
+                    return;
+                }
+            }
+        }
+
+        private static int commonPrefix(final String label, final String uri, final int offset) {
+            int i = 0;
+            while (i < label.length()
+                    && offset + i < uri.length()
+                    && label.charAt(i) == uri.charAt(offset + i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
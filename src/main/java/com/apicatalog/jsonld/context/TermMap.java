@@ -0,0 +1,302 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Term definitions of an {@link ActiveContext}. A copy shares the definitions
+ * of the origin, stored in immutable layers, and records its own changes only.
+ * Deriving a context costs O(changed terms) instead of O(all terms).
+ * <p>
+ * The iteration order is the same as of {@link LinkedHashMap}, i.e. a term
+ * keeps its position when re-defined, and is moved to the end when removed and
+ * then defined again. The definitions are iterated over a snapshot that is
+ * kept until the next change, the snapshot of a shared layer is kept by the
+ * layer.
+ * </p>
+ */
+final class TermMap extends AbstractMap<String, TermDefinition> {
+
+    // layers are merged into one when exceeded to keep look-ups cheap
+    private static final int MAX_DEPTH = 8;
+
+    // immutable definitions shared with other maps, or null
+    private Layer base;
+
+    // definitions set by this map, anchored at the base position if the base
+    // contains the term and the term is not hidden, otherwise appended
+    private Map<String, TermDefinition> overlay;
+
+    // base terms removed by this map
+    private Set<String> hidden;
+
+    private int size;
+
+    // the overlay and hidden terms are referenced by a copy and must not be changed
+    private boolean shared;
+
+    // all definitions in the iteration order, built on demand and dropped on change
+    private volatile Map<String, TermDefinition> entries;
+
+    TermMap() {
+        this(null, 0);
+    }
+
+    private TermMap(final Layer base, final int size) {
+        this.base = base;
+        this.overlay = new LinkedHashMap<>();
+        this.hidden = new HashSet<>();
+        this.size = size;
+        this.shared = false;
+    }
+
+    /**
+     * Creates a copy sharing the current definitions. Subsequent changes of
+     * either map are not visible to the other one.
+     *
+     * @return a new map
+     */
+    TermMap copy() {
+
+        if (overlay.isEmpty() && hidden.isEmpty()) {
+            return new TermMap(base, size);
+        }
+
+        shared = true;
+
+        final Layer layer = base != null && base.depth >= MAX_DEPTH
+                ? new Layer(null, new LinkedHashMap<>(entries()), Collections.emptySet(), 1)
+                : new Layer(base, overlay, hidden, base != null ? base.depth + 1 : 1);
+
+        // the definitions of the layer are the same as of this map
+        layer.entries = entries;
+
+        return new TermMap(layer, size);
+    }
+
+    @Override
+    public TermDefinition get(final Object key) {
+
+        final TermDefinition definition = overlay.get(key);
+
+        if (definition != null || base == null || hidden.contains(key)) {
+            return definition;
+        }
+
+        return base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public TermDefinition put(final String key, final TermDefinition value) {
+
+        Objects.requireNonNull(value);
+
+        detach();
+
+        entries = null;
+
+        TermDefinition previous = overlay.put(key, value);
+
+        if (previous == null && base != null && !hidden.contains(key)) {
+            previous = base.get(key);
+        }
+
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    @Override
+    public TermDefinition remove(final Object key) {
+
+        if (!(key instanceof String)) {
+            return null;
+        }
+
+        detach();
+
+        entries = null;
+
+        TermDefinition previous = overlay.remove(key);
+
+        if (base != null && !hidden.contains(key)) {
+
+            final TermDefinition baseDefinition = base.get(key);
+
+            if (baseDefinition != null) {
+                hidden.add((String) key);
+
+                if (previous == null) {
+                    previous = baseDefinition;
+                }
+            }
+        }
+
+        if (previous != null) {
+            size--;
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        base = null;
+        overlay = new LinkedHashMap<>();
+        hidden = new HashSet<>();
+        size = 0;
+        shared = false;
+        entries = null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, TermDefinition>> entrySet() {
+        return entries().entrySet();
+    }
+
+    private Map<String, TermDefinition> entries() {
+
+        Map<String, TermDefinition> snapshot = entries;
+
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        if (overlay.isEmpty() && hidden.isEmpty()) {
+            snapshot = base != null ? base.entries() : Collections.emptyMap();
+
+        } else {
+            final Map<String, TermDefinition> collected = new LinkedHashMap<>(size * 4 / 3 + 1);
+
+            if (base != null) {
+                collected.putAll(base.entries());
+            }
+
+            hidden.forEach(collected::remove);
+            collected.putAll(overlay);
+
+            snapshot = Collections.unmodifiableMap(collected);
+        }
+
+        entries = snapshot;
+
+        return snapshot;
+    }
+
+    // moves own changes referenced by a copy into a new base layer
+    private void detach() {
+
+        if (!shared) {
+            return;
+        }
+
+        base = new Layer(base, overlay, hidden, base != null ? base.depth + 1 : 1);
+        overlay = new LinkedHashMap<>();
+        hidden = new HashSet<>();
+        shared = false;
+    }
+
+    private static final class Layer {
+
+        final Layer parent;
+        final Map<String, TermDefinition> overlay;
+        final Set<String> hidden;
+        final int depth;
+
+        // all definitions in the iteration order, built on demand
+        volatile Map<String, TermDefinition> entries;
+
+        Layer(final Layer parent, final Map<String, TermDefinition> overlay, final Set<String> hidden, final int depth) {
+            this.parent = parent;
+            this.overlay = overlay;
+            this.hidden = hidden;
+            this.depth = depth;
+        }
+
+        TermDefinition get(final Object key) {
+
+            Layer layer = this;
+
+            while (layer != null) {
+
+                final TermDefinition definition = layer.overlay.get(key);
+
+                if (definition != null) {
+                    return definition;
+                }
+
+                if (layer.hidden.contains(key)) {
+                    return null;
+                }
+
+                layer = layer.parent;
+            }
+
+            return null;
+        }
+
+        Map<String, TermDefinition> entries() {
+
+            Map<String, TermDefinition> snapshot = entries;
+
+            if (snapshot == null) {
+
+                final Map<String, TermDefinition> collected = new LinkedHashMap<>();
+                collect(collected);
+
+                snapshot = Collections.unmodifiableMap(collected);
+                entries = snapshot;
+            }
+
+            return snapshot;
+        }
+
+        // applies the layers in the same way LinkedHashMap would do
+        private void collect(final Map<String, TermDefinition> target) {
+
+            final Map<String, TermDefinition> snapshot = entries;
+
+            if (snapshot != null) {
+                target.putAll(snapshot);
+                return;
+            }
+
+            if (parent != null) {
+                parent.collect(target);
+            }
+
+            hidden.forEach(target::remove);
+            target.putAll(overlay);
+        }
+    }
+}
@@ -17,7 +17,6 @@ package com.apicatalog.jsonld.context;
 
 import java.util.Collection;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 /**
  *
@@ -61,13 +60,16 @@ public final class TermSelector {
         final InverseContext inverseContext = activeContext.getInverseContext();
 
         // 4.
-        return containers
-                .stream()
-                .filter(container -> inverseContext.contains(variable, container, typeLanguage))
-                .flatMap(container -> preferredValues
-                        .stream()
-                        .map(item -> inverseContext.get(variable, container, typeLanguage, item)))
-                .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
-                .findFirst();
+        for (final String container : containers) {
+            for (final String item : preferredValues) {
+
+                final String term = inverseContext.find(variable, container, typeLanguage, item);
+
+                if (term != null) {
+                    return Optional.of(term);
+                }
+            }
+        }
+        return Optional.empty();
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A bounded, direct-mapped table of IRI compaction results owned by
+ * {@link ActiveContext}. A result is keyed by an IRI, compaction flags and
+ * the value shape computed by the IRI compaction algorithm, i.e. the
+ * containers, the type/language selection and the preferred values.
+ * <p>
+ * Entries are immutable and replaced as a whole, an instance is therefore
+ * safe to share by contexts used concurrently. The table is dropped by a
+ * context whenever its terms, defaults, vocabulary mapping or base URI
+ * change.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class UriCompactionMemo {
+
+    private static final int SIZE = 256;
+
+    private final Entry[] entries;
+
+    UriCompactionMemo() {
+        this.entries = new Entry[SIZE];
+    }
+
+    /**
+     * Returns a memoized compaction of the given IRI.
+     *
+     * @param variable an IRI to compact
+     * @param flags compaction options the result has been computed with
+     * @param typeLanguage a type/language selection, or <code>null</code>
+     * @param containers a list of containers, or <code>null</code>
+     * @param preferredValues a list of preferred values, or <code>null</code>
+     * @return the compacted IRI, or <code>null</code> if not memoized
+     */
+    public String get(final String variable, final int flags, final String typeLanguage, final List<String> containers, final List<String> preferredValues) {
+
+        final Entry entry = entries[index(variable, flags, containers, preferredValues)];
+
+        if (entry != null
+                && entry.flags == flags
+                && entry.variable.equals(variable)
+                && Objects.equals(entry.typeLanguage, typeLanguage)
+                && Objects.equals(entry.containers, containers)
+                && Objects.equals(entry.preferredValues, preferredValues)) {
+            return entry.result;
+        }
+        return null;
+    }
+
+    /**
+     * Memoizes a compaction result. The given collections must not be modified
+     * afterwards.
+     *
+     * @param variable a compacted IRI
+     * @param flags compaction options the result has been computed with
+     * @param typeLanguage a type/language selection, or <code>null</code>
+     * @param containers a list of containers, or <code>null</code>
+     * @param preferredValues a list of preferred values, or <code>null</code>
+     * @param result the compacted IRI
+     */
+    public void put(final String variable, final int flags, final String typeLanguage, final List<String> containers, final List<String> preferredValues, final String result) {
+        if (result != null) {
+            entries[index(variable, flags, containers, preferredValues)] = new Entry(variable, flags, typeLanguage, containers, preferredValues, result);
+        }
+    }
+
+    private static final int index(final String variable, final int flags, final List<String> containers, final List<String> preferredValues) {
+
+        int hash = variable.hashCode() * 31 + flags;
+
+        if (containers != null) {
+            hash = hash * 31 + containers.hashCode();
+        }
+        if (preferredValues != null) {
+            hash = hash * 31 + preferredValues.hashCode();
+        }
+
+        return (hash ^ (hash >>> 16)) & (SIZE - 1);
+    }
+
+    private static final class Entry {
+
+        final String variable;
+        final int flags;
+        final String typeLanguage;
+        final List<String> containers;
+        final List<String> preferredValues;
+        final String result;
+
+        Entry(final String variable, final int flags, final String typeLanguage, final List<String> containers, final List<String> preferredValues, final String result) {
+            this.variable = variable;
+            this.flags = flags;
+            this.typeLanguage = typeLanguage;
+            this.containers = containers;
+            this.preferredValues = preferredValues;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+/**
+ * A bounded, direct-mapped table of IRI expansion results owned by
+ * {@link ActiveContext}. A slot keeps the most recent result hashed into it.
+ * <p>
+ * Entries are immutable and replaced as a whole, an instance is therefore
+ * safe to share by contexts used concurrently. The table is dropped by a
+ * context whenever its terms, vocabulary mapping or base URI change.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class UriExpansionMemo {
+
+    private static final int SIZE = 256;
+
+    private final Entry[] entries;
+
+    UriExpansionMemo() {
+        this.entries = new Entry[SIZE];
+    }
+
+    /**
+     * Returns a memoized expansion of the given value.
+     *
+     * @param value a value to expand
+     * @param flags expansion options the result has been computed with
+     * @return the expanded value, or <code>null</code> if not memoized
+     */
+    public String get(final String value, final int flags) {
+
+        final Entry entry = entries[index(value, flags)];
+
+        if (entry != null && entry.flags == flags && entry.value.equals(value)) {
+            return entry.result;
+        }
+        return null;
+    }
+
+    public void put(final String value, final int flags, final String result) {
+        if (result != null) {
+            entries[index(value, flags)] = new Entry(value, flags, result);
+        }
+    }
+
+    private static final int index(final String value, final int flags) {
+        final int hash = value.hashCode() * 31 + flags;
+        return (hash ^ (hash >>> 16)) & (SIZE - 1);
+    }
+
+    private static final class Entry {
+
+        final String value;
+        final int flags;
+        final String result;
+
+        Entry(final String value, final int flags, final String result) {
+            this.value = value;
+            this.flags = flags;
+            this.result = result;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.apicatalog.jsonld.context.cache;
 
+import com.apicatalog.jsonld.JsonLdError;
+
 public interface Cache<K, V> {
 
     boolean containsKey(final K key);
@@ -7,4 +9,33 @@ public interface Cache<K, V> {
     V get(final K key);
 
     void put(final K key, V value);
+
+    /**
+     * Returns a cached value or loads and caches a new one if there is no value
+     * associated with the key.
+     * <p>
+     * The default implementation does not guard against concurrent loads of the
+     * same key, see {@link ConcurrentCache}.
+     * </p>
+     *
+     * @param key a key
+     * @param loader a loader called if the key is not cached
+     * @return a cached or loaded value, or <code>null</code>
+     * @throws JsonLdError if the loader has failed
+     *
+     * @since 1.5.0
+     */
+    default V get(final K key, final CacheLoader<K, V> loader) throws JsonLdError {
+
+        V value = get(key);
+
+        if (value == null) {
+            value = loader.load(key);
+
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
 }
@@ -0,0 +1,25 @@
+package com.apicatalog.jsonld.context.cache;
+
+import com.apicatalog.jsonld.JsonLdError;
+
+/**
+ * Computes a value to be cached.
+ *
+ * @param <K> a key type
+ * @param <V> a value type
+ *
+ * @since 1.5.0
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+    /**
+     * Computes a value for the given key.
+     *
+     * @param key a key to load
+     * @return a value or <code>null</code> if there is no value, <code>null</code>
+     *         is never cached
+     * @throws JsonLdError if the value cannot be computed
+     */
+    V load(K key) throws JsonLdError;
+}
@@ -0,0 +1,522 @@
+package com.apicatalog.jsonld.context.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+
+/**
+ * A thread-safe bounded cache. Entries are spread over independently locked
+ * segments, each segment evicts entries using segmented LRU policy, i.e. an
+ * entry accessed at least twice is protected from eviction by entries accessed
+ * only once.
+ * <p>
+ * Concurrent {@link #get(Object, CacheLoader)} calls of the same missing key
+ * are coalesced, the key is loaded only once and the other callers wait for the
+ * result.
+ * </p>
+ *
+ * @param <K> a key type
+ * @param <V> a value type
+ *
+ * @since 1.5.0
+ */
+public final class ConcurrentCache<K, V> implements Cache<K, V> {
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    // a minimal segment capacity, keeps eviction close to LRU on small caches
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    private final Segment<K, V>[] segments;
+
+    private final int segmentMask;
+
+    private final ToIntBiFunction<K, V> weigher;
+
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<K, CompletableFuture<V>> loading;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    public ConcurrentCache(final int maxCapacity) {
+        this(new Builder<K, V>().maximumSize(maxCapacity));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ConcurrentCache(final Builder<K, V> builder) {
+
+        int segmentCount = 1;
+
+        while (segmentCount < builder.concurrencyLevel
+                && (segmentCount << 1) * MIN_SEGMENT_CAPACITY <= builder.maxWeight) {
+            segmentCount <<= 1;
+        }
+
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+
+        final long segmentWeight = Math.max(1, builder.maxWeight / segmentCount);
+        final long ttl = builder.ttl != null ? builder.ttl.toNanos() : 0;
+
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentWeight, ttl);
+        }
+
+        this.weigher = builder.weigher;
+        this.clock = builder.clock;
+        this.loading = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    public static <K, V> Builder<K, V> newBuilder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        final Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.contains(key, clock.getAsLong());
+        }
+    }
+
+    @Override
+    public V get(final K key) {
+
+        final Segment<K, V> segment = segmentFor(key);
+
+        final V value;
+
+        synchronized (segment) {
+            value = segment.get(key, clock.getAsLong());
+            evictions.add(segment.takeEvictions());
+        }
+
+        if (value != null) {
+            hits.increment();
+
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(final K key, final V value) {
+
+        if (value == null) {
+            return;
+        }
+
+        final Segment<K, V> segment = segmentFor(key);
+
+        final Entry<V> entry = new Entry<>(value, weigher.applyAsInt(key, value), clock.getAsLong());
+
+        synchronized (segment) {
+            segment.put(key, entry);
+            evictions.add(segment.takeEvictions());
+        }
+    }
+
+    @Override
+    public V get(final K key, final CacheLoader<K, V> loader) throws JsonLdError {
+
+        final V cached = get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> pending = loading.putIfAbsent(key, future);
+
+        // another thread is loading the key
+        if (pending != null) {
+            return await(pending);
+        }
+
+        try {
+            // the key could have been loaded since the miss
+            V value = peek(key);
+
+            if (value == null) {
+                value = loader.load(key);
+                put(key, value);
+            }
+
+            future.complete(value);
+            return value;
+
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * The number of entries currently held by the cache, including expired
+     * entries not yet removed.
+     *
+     * @return the number of entries
+     */
+    public long size() {
+        long size = 0;
+        for (final Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * The total weight of entries currently held by the cache.
+     *
+     * @return the total weight
+     */
+    public long weight() {
+        long weight = 0;
+        for (final Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                weight += segment.weight();
+            }
+        }
+        return weight;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of entries removed from the cache either because of a size or
+     * weight limit or because of expiration.
+     *
+     * @return the number of evicted entries
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentCache[size=" + size()
+                + ", hits=" + hitCount()
+                + ", misses=" + missCount()
+                + ", evictions=" + evictionCount()
+                + "]";
+    }
+
+    // gets a value without affecting statistics
+    private V peek(final K key) {
+        final Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            final V value = segment.get(key, clock.getAsLong());
+            evictions.add(segment.takeEvictions());
+            return value;
+        }
+    }
+
+    private Segment<K, V> segmentFor(final K key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private static <V> V await(final CompletableFuture<V> future) throws JsonLdError {
+        try {
+            return future.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonLdError(JsonLdErrorCode.UNSPECIFIED, e);
+
+        } catch (CancellationException e) {
+            throw new JsonLdError(JsonLdErrorCode.UNSPECIFIED, e);
+
+        } catch (ExecutionException e) {
+
+            if (e.getCause() instanceof JsonLdError) {
+                throw (JsonLdError) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new JsonLdError(JsonLdErrorCode.UNSPECIFIED, e.getCause());
+        }
+    }
+
+    static final class Entry<V> {
+
+        final V value;
+        final long weight;
+        final long written;
+
+        Entry(final V value, final long weight, final long written) {
+            this.value = value;
+            this.weight = weight;
+            this.written = written;
+        }
+    }
+
+    /**
+     * Segmented LRU, new entries are inserted into the probation part and
+     * promoted to the protected part when accessed again. Entries demoted from the
+     * protected part get another chance in the probation part, victims are taken
+     * from the probation part first.
+     */
+    static final class Segment<K, V> {
+
+        // access ordered
+        final LinkedHashMap<K, Entry<V>> probation;
+        final LinkedHashMap<K, Entry<V>> protectedEntries;
+
+        final long maxWeight;
+        final long maxProtectedWeight;
+
+        // time to live in nanoseconds, zero if entries do not expire
+        final long ttl;
+
+        long probationWeight;
+        long protectedWeight;
+
+        long evicted;
+
+        Segment(final long maxWeight, final long ttl) {
+            this.probation = new LinkedHashMap<>(16, 0.75f, true);
+            this.protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+            this.maxWeight = maxWeight;
+            this.maxProtectedWeight = maxWeight - Math.max(1, maxWeight / 5);
+            this.ttl = ttl;
+            this.probationWeight = 0;
+            this.protectedWeight = 0;
+            this.evicted = 0;
+        }
+
+        boolean contains(final K key, final long now) {
+
+            Entry<V> entry = protectedEntries.get(key);
+
+            if (entry == null) {
+                entry = probation.get(key);
+            }
+
+            return entry != null && !isExpired(entry, now);
+        }
+
+        V get(final K key, final long now) {
+
+            Entry<V> entry = protectedEntries.get(key);
+
+            if (entry != null) {
+
+                if (isExpired(entry, now)) {
+                    protectedEntries.remove(key);
+                    protectedWeight -= entry.weight;
+                    evicted++;
+                    return null;
+                }
+                return entry.value;
+            }
+
+            entry = probation.remove(key);
+
+            if (entry == null) {
+                return null;
+            }
+
+            probationWeight -= entry.weight;
+
+            if (isExpired(entry, now)) {
+                evicted++;
+                return null;
+            }
+
+            // promote
+            protectedEntries.put(key, entry);
+            protectedWeight += entry.weight;
+
+            demote();
+
+            return entry.value;
+        }
+
+        void put(final K key, final Entry<V> entry) {
+
+            final Entry<V> previous = protectedEntries.get(key);
+
+            if (previous != null) {
+                protectedEntries.put(key, entry);
+                protectedWeight += entry.weight - previous.weight;
+                demote();
+
+            } else {
+                final Entry<V> replaced = probation.put(key, entry);
+                probationWeight += entry.weight - (replaced != null ? replaced.weight : 0);
+            }
+
+            evict(probation, true);
+            evict(protectedEntries, false);
+        }
+
+        long takeEvictions() {
+            final long count = evicted;
+            evicted = 0;
+            return count;
+        }
+
+        int size() {
+            return probation.size() + protectedEntries.size();
+        }
+
+        long weight() {
+            return probationWeight + protectedWeight;
+        }
+
+        private void demote() {
+
+            final Iterator<Map.Entry<K, Entry<V>>> it = protectedEntries.entrySet().iterator();
+
+            while (protectedWeight > maxProtectedWeight && it.hasNext()) {
+
+                final Map.Entry<K, Entry<V>> eldest = it.next();
+                it.remove();
+
+                protectedWeight -= eldest.getValue().weight;
+
+                probation.put(eldest.getKey(), eldest.getValue());
+                probationWeight += eldest.getValue().weight;
+            }
+        }
+
+        private boolean isExpired(final Entry<V> entry, final long now) {
+            return ttl > 0 && now - entry.written >= ttl;
+        }
+
+        private void evict(final LinkedHashMap<K, Entry<V>> entries, final boolean isProbation) {
+
+            final Iterator<Entry<V>> it = entries.values().iterator();
+
+            while (probationWeight + protectedWeight > maxWeight && it.hasNext()) {
+                remove(it, it.next(), isProbation);
+            }
+        }
+
+        private void remove(final Iterator<Entry<V>> it, final Entry<V> entry, final boolean isProbation) {
+
+            it.remove();
+
+            if (isProbation) {
+                probationWeight -= entry.weight;
+
+            } else {
+                protectedWeight -= entry.weight;
+            }
+            evicted++;
+        }
+    }
+
+    public static final class Builder<K, V> {
+
+        private long maxWeight;
+        private ToIntBiFunction<K, V> weigher;
+        private Duration ttl;
+        private int concurrencyLevel;
+        private LongSupplier clock;
+
+        Builder() {
+            this.maxWeight = 256;
+            this.weigher = (key, value) -> 1;
+            this.ttl = null;
+            this.concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
+            this.clock = System::nanoTime;
+        }
+
+        /**
+         * The maximal number of entries.
+         *
+         * @param maxSize the maximal number of entries
+         * @return the builder instance
+         */
+        public Builder<K, V> maximumSize(final long maxSize) {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("Maximum size must be greater than 0 but was [" + maxSize + "].");
+            }
+            this.maxWeight = maxSize;
+            this.weigher = (key, value) -> 1;
+            return this;
+        }
+
+        /**
+         * The maximal total weight of entries.
+         *
+         * @param maxWeight the maximal total weight
+         * @param weigher computes a weight of an entry
+         * @return the builder instance
+         */
+        public Builder<K, V> maximumWeight(final long maxWeight, final ToIntBiFunction<K, V> weigher) {
+            if (maxWeight < 1) {
+                throw new IllegalArgumentException("Maximum weight must be greater than 0 but was [" + maxWeight + "].");
+            }
+            this.maxWeight = maxWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Entries are removed after the given duration since they were put into the
+         * cache.
+         *
+         * @param ttl time to live or <code>null</code> if entries do not expire
+         * @return the builder instance
+         */
+        public Builder<K, V> expireAfterWrite(final Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * A hint about the number of threads accessing the cache concurrently.
+         *
+         * @param concurrencyLevel the number of threads
+         * @return the builder instance
+         */
+        public Builder<K, V> concurrencyLevel(final int concurrencyLevel) {
+            this.concurrencyLevel = Math.max(1, concurrencyLevel);
+            return this;
+        }
+
+        // for testing purposes only
+        Builder<K, V> clock(final LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ConcurrentCache<K, V> build() {
+            return new ConcurrentCache<>(this);
+        }
+    }
+}
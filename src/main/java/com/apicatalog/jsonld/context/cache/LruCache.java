@@ -3,6 +3,10 @@ package com.apicatalog.jsonld.context.cache;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * A simple LRU cache. Access is serialized, please consider
+ * {@link ConcurrentCache} if the cache is shared by many threads.
+ */
 public final class LruCache<K, V> implements Cache<K, V> {
 
     private final Map<K, V> cache;
@@ -20,21 +24,21 @@ public final class LruCache<K, V> implements Cache<K, V> {
     }
 
     @Override
-    public boolean containsKey(final K key) {
+    public synchronized boolean containsKey(final K key) {
         return cache.containsKey(key);
     }
 
     @Override
-    public V get(final K key) {
+    public synchronized V get(final K key) {
         return cache.get(key);
     }
 
     @Override
-    public void put(final K key, V value) {
+    public synchronized void put(final K key, V value) {
         cache.put(key, value);
     }
 
-    public long size() {
+    public synchronized long size() {
         return cache.size();
     }
 }
@@ -15,12 +15,15 @@
  */
 package com.apicatalog.jsonld.deseralization;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdOptions.RdfDirection;
 import com.apicatalog.jsonld.flattening.NodeMap;
@@ -31,6 +34,7 @@ import com.apicatalog.jsonld.lang.Utils;
 import com.apicatalog.jsonld.uri.UriUtils;
 import com.apicatalog.rdf.Rdf;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfQuadConsumer;
 import com.apicatalog.rdf.RdfResource;
 import com.apicatalog.rdf.RdfTriple;
 import com.apicatalog.rdf.RdfValue;
@@ -51,6 +55,7 @@ public final class JsonLdToRdf {
     private boolean produceGeneralizedRdf;
     private RdfDirection rdfDirection;
     private boolean uriValidation;
+    private boolean ordered;
 
     private JsonLdToRdf(NodeMap nodeMap, RdfDataset dataset) {
         this.nodeMap = nodeMap;
@@ -59,12 +64,17 @@ public final class JsonLdToRdf {
         this.produceGeneralizedRdf = false;
         this.rdfDirection = null;
         this.uriValidation = JsonLdOptions.DEFAULT_URI_VALIDATION;
+        this.ordered = false;
     }
 
     public static final JsonLdToRdf with(NodeMap nodeMap, RdfDataset dataset) {
         return new JsonLdToRdf(nodeMap, dataset);
     }
 
+    public static final JsonLdToRdf with(NodeMap nodeMap) {
+        return new JsonLdToRdf(nodeMap, null);
+    }
+
     public JsonLdToRdf produceGeneralizedRdf(boolean enable) {
         this.produceGeneralizedRdf = enable;
         return this;
@@ -75,10 +85,49 @@ public final class JsonLdToRdf {
         return this;
     }
 
+    /**
+     * If set to <code>true</code> graphs, subjects and properties are processed
+     * in lexicographical order, otherwise in the node map order.
+     *
+     * @param ordered <code>true</code> to emit quads in a deterministic order
+     * @return builder instance
+     */
+    public JsonLdToRdf ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
     public RdfDataset build() throws JsonLdError {
 
+        if (dataset == null) {
+            throw new IllegalStateException("Dataset is not set, use provide(RdfQuadConsumer) instead.");
+        }
+
+        provide(dataset::add);
+
+        return dataset;
+    }
+
+    /**
+     * Emits <code>N-Quads</code> to the given consumer as they are produced.
+     * No de-duplication is performed.
+     *
+     * @param consumer to emit to
+     * @throws JsonLdError if the consumer has failed
+     */
+    public void provide(final RdfQuadConsumer consumer) throws JsonLdError {
+        try {
+            emit(consumer);
+
+        } catch (IOException e) {
+            throw new JsonLdError(JsonLdErrorCode.UNSPECIFIED, e);
+        }
+    }
+
+    private void emit(final RdfQuadConsumer consumer) throws JsonLdError, IOException {
+
         // 1.
-        for (final String graphName : Utils.index(nodeMap.graphs(), true)) {
+        for (final String graphName : Utils.index(nodeMap.graphs(), ordered)) {
 
             // 1.2.
             final RdfResource rdfGraphName;
@@ -103,7 +152,7 @@ public final class JsonLdToRdf {
             }
 
             // 1.3.
-            for (final String subject : Utils.index(nodeMap.subjects(graphName), true)) {
+            for (final String subject : Utils.index(nodeMap.subjects(graphName), ordered)) {
 
                 final RdfResource rdfSubject;
 
@@ -120,7 +169,7 @@ public final class JsonLdToRdf {
                 }
 
                 // 1.3.2.
-                for (final String property : Utils.index(nodeMap.properties(graphName, subject), true)) {
+                for (final String property : Utils.index(nodeMap.properties(graphName, subject), ordered)) {
 
                     // 1.3.2.1.
                     if (Keywords.TYPE.equals(property)) {
@@ -145,7 +194,7 @@ public final class JsonLdToRdf {
                                 continue;
                             }
 
-                            dataset.add(Rdf.createNQuad(
+                            consumer.accept(Rdf.createNQuad(
                                                 rdfSubject,
                                                 Rdf.createIRI(RdfConstants.TYPE),
                                                 rdfObject,
@@ -177,29 +226,31 @@ public final class JsonLdToRdf {
                                 final List<RdfTriple> listTriples = new ArrayList<>();
 
                                 // 1.3.2.5.2.
-                                ObjectToRdf
+                                final Optional<RdfValue> rdfObject = ObjectToRdf
                                         .with(item.asJsonObject(), listTriples, nodeMap)
                                         .rdfDirection(rdfDirection)
                                         .uriValidation(uriValidation)
-                                        .build()
-                                        .ifPresent(rdfObject ->
-                                                            dataset.add(Rdf.createNQuad(
-                                                                        rdfSubject,
-                                                                        rdfProperty,
-                                                                        rdfObject,
-                                                                        rdfGraphName
-                                                                        )));
+                                        .build();
+
+                                if (rdfObject.isPresent()) {
+                                    consumer.accept(Rdf.createNQuad(
+                                                        rdfSubject,
+                                                        rdfProperty,
+                                                        rdfObject.get(),
+                                                        rdfGraphName
+                                                        ));
+                                }
+
                                 // 1.3.2.5.3.
-                                listTriples.stream()
-                                            .map(triple -> Rdf.createNQuad(triple, rdfGraphName))
-                                            .forEach(dataset::add);
+                                for (final RdfTriple triple : listTriples) {
+                                    consumer.accept(Rdf.createNQuad(triple, rdfGraphName));
+                                }
                             }
                         }
                     }
                 }
             }
         }
-        return dataset;
     }
 
     public JsonLdToRdf uriValidation(boolean uriValidation) {
@@ -16,10 +16,7 @@
 package com.apicatalog.jsonld.deseralization;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -44,6 +41,7 @@ import com.apicatalog.rdf.RdfTriple;
 import com.apicatalog.rdf.RdfValue;
 import com.apicatalog.rdf.lang.RdfConstants;
 import com.apicatalog.rdf.lang.XsdConstants;
+import com.apicatalog.rdf.lang.XsdNumbers;
 
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
@@ -59,10 +57,8 @@ final class ObjectToRdf {
 
     private static final Logger LOGGER = Logger.getLogger(ObjectToRdf.class.getName());
 
-    private static final DecimalFormat xsdNumberFormat =
-            new DecimalFormat("0.0##############E0", new DecimalFormatSymbols(Locale.ENGLISH));
-
-    static { xsdNumberFormat.setMinimumFractionDigits(1); }
+    // 10^21, greater integral numbers are converted to xsd:double
+    private static final BigDecimal XSD_DOUBLE_LIMIT = BigDecimal.ONE.movePointRight(21);
 
     // required
     private JsonObject item;
@@ -186,10 +182,10 @@ final class ObjectToRdf {
             if ((!number.isIntegral()  && number.doubleValue() % -1 != 0)
                     || XsdConstants.DOUBLE.equals(datatype)
                     || XsdConstants.FLOAT.equals(datatype)
-                    || number.bigDecimalValue().compareTo(BigDecimal.ONE.movePointRight(21)) >= 0
+                    || number.bigDecimalValue().compareTo(XSD_DOUBLE_LIMIT) >= 0
                     ) {
 
-                valueString = toXsdDouble(number.bigDecimalValue());
+                valueString = XsdNumbers.formatDouble(number.doubleValue());
 
                 if (datatype == null) {
                     datatype = XsdConstants.DOUBLE;
@@ -291,10 +287,6 @@ final class ObjectToRdf {
         return Optional.ofNullable(rdfLiteral);
     }
 
-    private static final String toXsdDouble(BigDecimal bigDecimal) {
-        return xsdNumberFormat.format(bigDecimal);
-    }
-
     public ObjectToRdf uriValidation(boolean uriValidation) {
         this.uriValidation = uriValidation;
         return this;
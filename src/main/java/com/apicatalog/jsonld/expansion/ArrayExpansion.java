@@ -16,6 +16,13 @@
 package com.apicatalog.jsonld.expansion;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.context.ActiveContext;
@@ -84,45 +91,157 @@ public final class ArrayExpansion {
 
     public JsonArray expand() throws JsonLdError {
 
+        final Executor executor = activeContext.runtime().getExecutor();
+
+        if (executor != null
+                && element.size() >= activeContext.runtime().getParallelThreshold()
+                && (activeProperty == null || Keywords.GRAPH.equals(activeProperty))) {
+            return expand(executor);
+        }
+
         final JsonArrayBuilder result = JsonProvider.instance().createArrayBuilder();
 
         // 5.2.
         for (final JsonValue item : element) {
-            
-            activeContext.runtime().tick();
-
-            // 5.2.1
-            JsonValue expanded = Expansion
-                    .with(activeContext, item, activeProperty, baseUrl)
-                    .frameExpansion(frameExpansion)
-                    .ordered(ordered)
-                    .fromMap(fromMap)
-                    .compute();
-
-            // 5.2.2
-            if (JsonUtils.isArray(expanded)
-                    && activeContext.getTerm(activeProperty)
-                            .map(TermDefinition::getContainerMapping)
-                            .filter(c -> c.contains(Keywords.LIST)).isPresent()) {
-
-                expanded = ListObject.toListObject(expanded);
-            }
+            expand(activeContext, item, result::add);
+        }
+
+        // 5.3
+        return result.build();
+    }
+
+    /**
+     * Expands top-level members in chunks, each chunk with its own copy of the
+     * active context. A chunk stops when a preceding chunk has failed, so the
+     * first error in the members order is thrown.
+     */
+    private JsonArray expand(final Executor executor) throws JsonLdError {
+
+        final int chunkSize = Math.max(1, element.size() / (4 * parallelism(executor)));
+        final int chunkCount = (element.size() + chunkSize - 1) / chunkSize;
+
+        // warm up lazily created tables so the copies share them
+        activeContext.getBase();
+        activeContext.getUriExpansionMemo();
 
-            // 5.2.3
-            if (JsonUtils.isArray(expanded)) {
-                expanded.asJsonArray()
-                        .stream()
-                        .filter(JsonUtils::isNotNull)
-                        .forEach(result::add);
+        final AtomicInteger failedChunk = new AtomicInteger(chunkCount);
+
+        final Chunk[] chunks = new Chunk[chunkCount];
+
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i] = new Chunk(
+                    i,
+                    i * chunkSize,
+                    Math.min(element.size(), (i + 1) * chunkSize),
+                    new ActiveContext(activeContext, activeContext.runtime().fork()),
+                    failedChunk);
+        }
+
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(chunkCount - 1);
+
+        for (int i = 1; i < chunkCount; i++) {
+            futures.add(CompletableFuture.runAsync(chunks[i], executor));
+        }
+
+        // the first chunk is expanded by the calling thread
+        chunks[0].run();
+
+        final JsonArrayBuilder result = JsonProvider.instance().createArrayBuilder();
+
+        for (int i = 0; i < chunkCount; i++) {
+
+            if (i > 0) {
+                futures.get(i - 1).join();
+            }
 
-                // append non-null element
-            } else if (JsonUtils.isNotNull(expanded)) {
-                result.add(expanded);
+            if (chunks[i].error instanceof JsonLdError) {
+                throw (JsonLdError) chunks[i].error;
+            }
+            if (chunks[i].error instanceof RuntimeException) {
+                throw (RuntimeException) chunks[i].error;
+            }
+            if (chunks[i].error instanceof Error) {
+                throw (Error) chunks[i].error;
             }
 
+            chunks[i].result.forEach(result::add);
         }
 
         // 5.3
         return result.build();
     }
+
+    private void expand(final ActiveContext activeContext, final JsonValue item, final Consumer<JsonValue> result) throws JsonLdError {
+
+        activeContext.runtime().tick();
+
+        // 5.2.1
+        JsonValue expanded = Expansion
+                .with(activeContext, item, activeProperty, baseUrl)
+                .frameExpansion(frameExpansion)
+                .ordered(ordered)
+                .fromMap(fromMap)
+                .compute();
+
+        // 5.2.2
+        if (JsonUtils.isArray(expanded)
+                && activeContext.getTerm(activeProperty)
+                        .map(TermDefinition::getContainerMapping)
+                        .filter(c -> c.contains(Keywords.LIST)).isPresent()) {
+
+            expanded = ListObject.toListObject(expanded);
+        }
+
+        // 5.2.3
+        if (JsonUtils.isArray(expanded)) {
+            expanded.asJsonArray()
+                    .stream()
+                    .filter(JsonUtils::isNotNull)
+                    .forEach(result);
+
+            // append non-null element
+        } else if (JsonUtils.isNotNull(expanded)) {
+            result.accept(expanded);
+        }
+    }
+
+    private static final int parallelism(final Executor executor) {
+        return executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    private final class Chunk implements Runnable {
+
+        final int index;
+        final int from;
+        final int to;
+        final ActiveContext activeContext;
+        final AtomicInteger failedChunk;
+
+        final List<JsonValue> result;
+        Throwable error;
+
+        Chunk(final int index, final int from, final int to, final ActiveContext activeContext, final AtomicInteger failedChunk) {
+            this.index = index;
+            this.from = from;
+            this.to = to;
+            this.activeContext = activeContext;
+            this.failedChunk = failedChunk;
+            this.result = new ArrayList<>(to - from);
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = from; i < to && failedChunk.get() > index; i++) {
+                    expand(activeContext, element.get(i), result::add);
+                }
+
+            } catch (JsonLdError | RuntimeException | Error e) {
+                error = e;
+                failedChunk.accumulateAndGet(index, Math::min);
+            }
+        }
+    }
 }
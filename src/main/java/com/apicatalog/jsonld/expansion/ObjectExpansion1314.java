@@ -697,7 +697,7 @@ final class ObjectExpansion1314 {
             } else if (containerMapping.contains(Keywords.LANGUAGE) && JsonUtils.isObject(value)) {
 
                 // 13.7.1.
-                expandedValue = JsonValue.EMPTY_JSON_ARRAY;
+                final JsonArrayBuilder langMaps = JsonProvider.instance().createArrayBuilder();
 
                 // 13.7.2.
                 final DirectionType direction = keyTermDefinition
@@ -756,16 +756,18 @@ final class ObjectExpansion1314 {
                         }
 
                         // 13.7.4.2.6.
-                        expandedValue = JsonProvider.instance().createArrayBuilder(expandedValue.asJsonArray()).add(langMap).build();
+                        langMaps.add(langMap);
                     }
                 }
 
+                expandedValue = langMaps.build();
+
                 // 13.8.
             } else if ((containerMapping.contains(Keywords.INDEX) || containerMapping.contains(Keywords.TYPE)
                     || containerMapping.contains(Keywords.ID)) && JsonUtils.isObject(value)) {
 
                 // 13.8.1.
-                expandedValue = JsonValue.EMPTY_JSON_ARRAY;
+                final JsonArrayBuilder items = JsonProvider.instance().createArrayBuilder();
 
                 // 13.8.2.
                 final String indexKey = keyTermDefinition
@@ -906,10 +908,12 @@ final class ObjectExpansion1314 {
                         }
 
                         // 13.8.3.7.6.
-                        expandedValue = JsonProvider.instance().createArrayBuilder(expandedValue.asJsonArray()).add(item).build();
+                        items.add(item);
                     }
                 }
 
+                expandedValue = items.build();
+
                 // 13.9.
             } else {
                 expandedValue = Expansion
@@ -24,10 +24,10 @@ import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.context.ActiveContext;
 import com.apicatalog.jsonld.context.TermDefinition;
+import com.apicatalog.jsonld.context.UriExpansionMemo;
 import com.apicatalog.jsonld.json.JsonUtils;
 import com.apicatalog.jsonld.lang.BlankNode;
 import com.apicatalog.jsonld.lang.Keywords;
-import com.apicatalog.jsonld.uri.UriResolver;
 import com.apicatalog.jsonld.uri.UriUtils;
 
 import jakarta.json.JsonObject;
@@ -106,6 +106,27 @@ public final class UriExpansion {
             return null;
         }
 
+        // the memo is bypassed during context definition
+        if (localContext != null || defined != null) {
+            return expandValue(value);
+        }
+
+        final int flags = (vocab ? 1 : 0) | (documentRelative ? 2 : 0) | (uriValidation ? 4 : 0);
+
+        final UriExpansionMemo memo = activeContext.getUriExpansionMemo();
+
+        String result = memo.get(value, flags);
+
+        if (result == null) {
+            result = expandValue(value);
+            memo.put(value, flags, result);
+        }
+
+        return result;
+    }
+
+    private String expandValue(final String value) throws JsonLdError {
+
         initLocalContext(value);
 
         final Optional<TermDefinition> definition = activeContext.getTerm(value)
@@ -199,7 +220,9 @@ public final class UriExpansion {
 
             // 8.
         } else if (documentRelative) {
-            return UriResolver.resolve(activeContext.getBaseUri(), result);
+            return activeContext.getBase() != null
+                    ? activeContext.getBase().resolve(result)
+                    : result;
         }
 
         // 9.
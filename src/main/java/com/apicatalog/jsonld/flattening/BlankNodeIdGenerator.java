@@ -30,9 +30,30 @@ public final class BlankNodeIdGenerator {
 
     private Integer counter;
 
+    // identifiers numbered by preceding generators, or null
+    private final Map<String, Integer> preceding;
+
+    // the first number generated by this generator
+    private final int first;
+
     public BlankNodeIdGenerator() {
+        this(0, null);
+    }
+
+    /**
+     * Creates a generator continuing the numbering of preceding generators.
+     * An identifier numbered below the given counter is mapped to the same
+     * generated identifier as by the preceding generators.
+     *
+     * @param counter the next number to generate
+     * @param preceding identifiers and their numbers, not changed below the
+     *                  given counter
+     */
+    BlankNodeIdGenerator(final int counter, final Map<String, Integer> preceding) {
         this.map = new HashMap<>();
-        this.counter = 0;
+        this.counter = counter;
+        this.preceding = preceding;
+        this.first = counter;
     }
 
     public String createIdentifier() {
@@ -49,6 +70,17 @@ public final class BlankNodeIdGenerator {
             return map.get(identifier);
         }
 
+        if (preceding != null) {
+
+            final Integer number = preceding.get(identifier);
+
+            if (number != null && number < first) {
+                final String blankId = "_:b".concat(Integer.toString(number));
+                map.put(identifier, blankId);
+                return blankId;
+            }
+        }
+
         final String blankId = createIdentifier();
 
         map.put(identifier, blankId);
@@ -56,4 +88,7 @@ public final class BlankNodeIdGenerator {
         return blankId;
     }
 
+    int getCounter() {
+        return counter;
+    }
 }
@@ -17,8 +17,10 @@ package com.apicatalog.jsonld.flattening;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.json.JsonMap;
 import com.apicatalog.jsonld.json.JsonProvider;
 import com.apicatalog.jsonld.json.JsonUtils;
 import com.apicatalog.jsonld.lang.Keywords;
@@ -36,12 +38,16 @@ public final class Flattening {
 
     // optional
     private boolean ordered;
+    private Executor executor;
+    private int parallelThreshold;
 
     private Flattening(final JsonStructure element) {
         this.element = element;
 
         // default values
         this.ordered = false;
+        this.executor = null;
+        this.parallelThreshold = Integer.MAX_VALUE;
     }
 
     public static final Flattening with(final JsonStructure element) {
@@ -53,13 +59,39 @@ public final class Flattening {
         return this;
     }
 
+    /**
+     * Builds a node map of top-level elements in parallel if there are at
+     * least the given number of elements.
+     *
+     * @param executor an executor, or <code>null</code> to build sequentially
+     * @param threshold the minimal number of top-level elements
+     * @return the flattening
+     *
+     * @since 1.5.0
+     */
+    public Flattening parallel(Executor executor, int threshold) {
+        this.executor = executor;
+        this.parallelThreshold = threshold;
+        return this;
+    }
+
     public JsonArray flatten() throws JsonLdError {
 
-        // 1.
-        final NodeMap nodeMap = new NodeMap();
+        final NodeMap nodeMap;
+
+        if (executor != null
+                && JsonUtils.isArray(element)
+                && element.asJsonArray().size() >= parallelThreshold) {
 
-        // 2.
-        NodeMapBuilder.with(element, nodeMap).build();
+            nodeMap = ParallelNodeMapBuilder.build(element.asJsonArray(), executor);
+
+        } else {
+            // 1.
+            nodeMap = new NodeMap();
+
+            // 2.
+            NodeMapBuilder.with(element, nodeMap).build();
+        }
 
         // 3.
         final Map<String, Map<String, JsonValue>> defaultGraph = nodeMap.get(Keywords.DEFAULT).orElseThrow(IllegalStateException::new);
@@ -93,7 +125,7 @@ public final class Flattening {
                     continue;
                 }
 
-                graphArray.add(JsonUtils.toJsonObject(node));
+                graphArray.add(JsonMap.of(node));
             }
 
             entry.put(Keywords.GRAPH, graphArray.build());
@@ -113,7 +145,7 @@ public final class Flattening {
                 continue;
             }
 
-            flattened.add(JsonUtils.toJsonObject(node));
+            flattened.add(JsonMap.of(node));
         }
 
         // 7.
@@ -15,17 +15,27 @@
  */
 package com.apicatalog.jsonld.flattening;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.json.JsonList;
 import com.apicatalog.jsonld.json.JsonProvider;
 import com.apicatalog.jsonld.json.JsonUtils;
 import com.apicatalog.jsonld.lang.Keywords;
+import com.apicatalog.jsonld.lang.ListObject;
 
+import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonValue;
 
@@ -33,11 +43,29 @@ public final class NodeMap {
 
     private final Map<String, Map<String, Map<String, JsonValue>>> index;
 
-    private final BlankNodeIdGenerator generator = new BlankNodeIdGenerator();
+    // values appended by add methods, not yet converted to JSON arrays
+    private final Map<String, Map<String, Map<String, PropertyValues>>> pending;
+
+    private final BlankNodeIdGenerator generator;
 
     public NodeMap() {
+        this(new BlankNodeIdGenerator());
+    }
+
+    /**
+     * Creates a new node map generating blank node identifiers by the given
+     * generator. Node maps sharing a generator map the same blank node
+     * identifier to the same generated identifier.
+     *
+     * @param generator a blank node identifier generator
+     *
+     * @since 1.5.0
+     */
+    public NodeMap(final BlankNodeIdGenerator generator) {
+        this.generator = generator;
         this.index = new LinkedHashMap<>();
         this.index.put(Keywords.DEFAULT, new LinkedHashMap<>());
+        this.pending = new LinkedHashMap<>();
     }
 
     public void set(String graphName, String subject, String property, JsonValue value) {
@@ -50,11 +78,70 @@ public final class NodeMap {
             .computeIfAbsent(graphName, x -> new LinkedHashMap<>())
             .computeIfAbsent(subject, x -> new LinkedHashMap<>())
             .put(property, value);
+
+        final Map<String, Map<String, PropertyValues>> graph = pending.get(graphName);
+
+        if (graph != null && graph.containsKey(subject)) {
+            graph.get(subject).remove(property);
+        }
+    }
+
+    /**
+     * Appends the value to the array of the given property. An absent property
+     * is created.
+     *
+     * @param graphName a graph name
+     * @param subject a subject
+     * @param property a property
+     * @param value a value to append
+     *
+     * @since 1.5.0
+     */
+    public void add(String graphName, String subject, String property, JsonValue value) {
+
+        if (subject == null) {
+            return;
+        }
+
+        values(graphName, subject, property).add(value);
+    }
+
+    /**
+     * Appends the value to the array of the given property if the array does not
+     * contain an equal value yet. An absent property is created.
+     *
+     * @param graphName a graph name
+     * @param subject a subject
+     * @param property a property
+     * @param value a value to append
+     *
+     * @since 1.5.0
+     */
+    public void addDistinct(String graphName, String subject, String property, JsonValue value) {
+
+        if (subject == null) {
+            return;
+        }
+
+        final PropertyValues values = values(graphName, subject, property);
+
+        if (!values.contains(value)) {
+            values.add(value);
+        }
     }
 
     public JsonValue get(String graphName, String subject, String property) {
 
         if (index.containsKey(graphName) && index.get(graphName).containsKey(subject)) {
+
+            final Map<String, PropertyValues> node = pending.getOrDefault(graphName, Collections.emptyMap()).get(subject);
+
+            if (node != null && node.containsKey(property)) {
+                final JsonArray array = node.remove(property).toJsonArray();
+                index.get(graphName).get(subject).put(property, array);
+                return array;
+            }
+
             return index.get(graphName).get(subject).get(property);
         }
 
@@ -63,6 +150,8 @@ public final class NodeMap {
 
     public Map<String, JsonValue> get(String graphName, String subject) {
 
+        flush();
+
         if (index.containsKey(graphName)) {
             return index.get(graphName).get(subject);
         }
@@ -81,6 +170,7 @@ public final class NodeMap {
     }
 
     public Optional<Map<String, Map<String, JsonValue>>> get(String graphName) {
+        flush();
         return Optional.ofNullable(index.get(graphName));
     }
 
@@ -110,6 +200,8 @@ public final class NodeMap {
      */
     public void merge() {
 
+        flush();
+
         // 1.
         final NodeMap result = new NodeMap();
 
@@ -135,18 +227,9 @@ public final class NodeMap {
 
                     } else {
 
-                        final JsonArrayBuilder array;
-
-                        if (result.contains(Keywords.MERGED, subject.getKey(), property.getKey())) {
-                            array = JsonProvider.instance().createArrayBuilder(JsonUtils.toJsonArray(result.get(Keywords.MERGED, subject.getKey(), property.getKey())));
-
-                        } else {
-                            array = JsonProvider.instance().createArrayBuilder();
+                        for (final JsonValue value : JsonUtils.toJsonArray(property.getValue())) {
+                            result.add(Keywords.MERGED, subject.getKey(), property.getKey(), value);
                         }
-
-                        JsonUtils.toJsonArray(property.getValue()).forEach(array::add);
-
-                        result.set(Keywords.MERGED, subject.getKey(), property.getKey(), array.build());
                     }
 
                 }
@@ -154,17 +237,179 @@ public final class NodeMap {
             }
         }
 
+        result.flush();
+
         if (result.index.get(Keywords.MERGED) != null) {
             index.put(Keywords.MERGED, result.index.get(Keywords.MERGED));
         }
     }
 
+    /**
+     * Appends nodes of the given map, built from elements following the
+     * elements this map has been built from. The nodes are merged as
+     * {@link NodeMapBuilder} merges nodes, both maps must share blank node
+     * identifiers.
+     *
+     * @param other a node map to append
+     * @throws JsonLdError if both maps set an index of the same node
+     */
+    void append(final NodeMap other) throws JsonLdError {
+
+        other.flush();
+
+        for (final Map.Entry<String, Map<String, Map<String, JsonValue>>> graph : other.index.entrySet()) {
+
+            final Map<String, Map<String, JsonValue>> graphIndex = index.computeIfAbsent(graph.getKey(), x -> new LinkedHashMap<>());
+
+            for (final Map.Entry<String, Map<String, JsonValue>> node : graph.getValue().entrySet()) {
+
+                graphIndex.computeIfAbsent(node.getKey(), x -> new LinkedHashMap<>());
+
+                for (final Map.Entry<String, JsonValue> property : node.getValue().entrySet()) {
+                    append(graph.getKey(), node.getKey(), property.getKey(), property.getValue());
+                }
+            }
+        }
+    }
+
+    private void append(final String graphName, final String subject, final String property, final JsonValue value) throws JsonLdError {
+
+        if (Keywords.ID.equals(property)) {
+            if (!contains(graphName, subject, property)) {
+                set(graphName, subject, property, value);
+            }
+
+        // a union of types, see NodeMapBuilder step 6.7.
+        } else if (Keywords.TYPE.equals(property)) {
+
+            final Set<JsonValue> nodeType = new LinkedHashSet<>();
+
+            final JsonValue nodeTypeValue = get(graphName, subject, property);
+
+            if (JsonUtils.isArray(nodeTypeValue)) {
+                nodeTypeValue.asJsonArray().stream().filter(JsonUtils::isNotNull).forEach(nodeType::add);
+
+            } else if (JsonUtils.isNotNull(nodeTypeValue)) {
+                nodeType.add(nodeTypeValue);
+            }
+
+            JsonUtils.toStream(value).filter(JsonUtils::isNotNull).forEach(nodeType::add);
+
+            final JsonArrayBuilder nodeTypeBuilder = JsonProvider.instance().createArrayBuilder();
+            nodeType.forEach(nodeTypeBuilder::add);
+
+            set(graphName, subject, property, nodeTypeBuilder.build());
+
+        // see NodeMapBuilder step 6.8.
+        } else if (Keywords.INDEX.equals(property)) {
+
+            if (contains(graphName, subject, property)) {
+                throw new JsonLdError(JsonLdErrorCode.CONFLICTING_INDEXES);
+            }
+
+            set(graphName, subject, property, value);
+
+        } else if (JsonUtils.isArray(value)) {
+
+            if (!contains(graphName, subject, property)) {
+                set(graphName, subject, property, JsonValue.EMPTY_JSON_ARRAY);
+            }
+
+            // lists are always appended, other values only once
+            for (final JsonValue item : value.asJsonArray()) {
+                if (ListObject.isListObject(item)) {
+                    add(graphName, subject, property, item);
+
+                } else {
+                    addDistinct(graphName, subject, property, item);
+                }
+            }
+
+        } else {
+            set(graphName, subject, property, value);
+        }
+    }
+
     public boolean contains(String id) {
         return index.containsKey(id);
     }
 
     @Override
     public String toString() {
+        flush();
         return Objects.toString(index);
     }
+
+    private PropertyValues values(String graphName, String subject, String property) {
+
+        final Map<String, PropertyValues> node = pending
+                .computeIfAbsent(graphName, x -> new LinkedHashMap<>())
+                .computeIfAbsent(subject, x -> new LinkedHashMap<>());
+
+        PropertyValues values = node.get(property);
+
+        if (values == null) {
+
+            final Map<String, JsonValue> indexNode = index
+                    .computeIfAbsent(graphName, x -> new LinkedHashMap<>())
+                    .computeIfAbsent(subject, x -> new LinkedHashMap<>());
+
+            // keep the property position, the value is replaced when flushed
+            final JsonValue value = indexNode.putIfAbsent(property, JsonValue.EMPTY_JSON_ARRAY);
+
+            values = new PropertyValues(value != null ? JsonUtils.toJsonArray(value) : JsonValue.EMPTY_JSON_ARRAY);
+            node.put(property, values);
+        }
+
+        return values;
+    }
+
+    // converts pending values into JSON arrays
+    private void flush() {
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        for (final Map.Entry<String, Map<String, Map<String, PropertyValues>>> graph : pending.entrySet()) {
+            for (final Map.Entry<String, Map<String, PropertyValues>> node : graph.getValue().entrySet()) {
+
+                final Map<String, JsonValue> indexNode = index.get(graph.getKey()).get(node.getKey());
+
+                for (final Map.Entry<String, PropertyValues> property : node.getValue().entrySet()) {
+                    indexNode.put(property.getKey(), property.getValue().toJsonArray());
+                }
+            }
+        }
+
+        pending.clear();
+    }
+
+    /**
+     * An append-only list of property values with hashed membership.
+     */
+    private static final class PropertyValues {
+
+        private final List<JsonValue> values;
+        private final Set<JsonValue> members;
+
+        PropertyValues(final JsonArray initial) {
+            this.values = new ArrayList<>(initial);
+            this.members = new HashSet<>(initial);
+        }
+
+        void add(final JsonValue value) {
+            values.add(value);
+            members.add(value);
+        }
+
+        boolean contains(final JsonValue value) {
+            return members.contains(value);
+        }
+
+        // the values are not changed once converted
+        JsonArray toJsonArray() {
+            return JsonList.of(values);
+        }
+    }
 }
\ No newline at end of file
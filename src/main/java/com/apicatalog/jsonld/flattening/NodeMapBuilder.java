@@ -19,11 +19,11 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Set;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.json.JsonMap;
 import com.apicatalog.jsonld.json.JsonProvider;
 import com.apicatalog.jsonld.json.JsonUtils;
 import com.apicatalog.jsonld.lang.BlankNode;
@@ -31,7 +31,6 @@ import com.apicatalog.jsonld.lang.Keywords;
 import com.apicatalog.jsonld.lang.NodeObject;
 import com.apicatalog.jsonld.lang.Utils;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
@@ -50,7 +49,7 @@ public final class NodeMapBuilder {
     private String activeSubject;
     private String activeProperty;
     private Map<String, JsonValue> referencedNode;
-    private Map<String, JsonValue> list;
+    private JsonArrayBuilder list;
 
 
     private NodeMapBuilder(final JsonStructure element, final NodeMap nodeMap) {
@@ -84,7 +83,7 @@ public final class NodeMapBuilder {
         return this;
     }
 
-    public NodeMapBuilder list(Map<String, JsonValue> list) {
+    public NodeMapBuilder list(JsonArrayBuilder list) {
         this.list = list;
         return this;
     }
@@ -154,29 +153,23 @@ public final class NodeMapBuilder {
 
                 // 4.1.1.
                 if (nodeMap.contains(activeGraph, activeSubject, activeProperty)) {
-
-                    final JsonArray activePropertyValue = nodeMap.get(activeGraph, activeSubject, activeProperty).asJsonArray();
-
-                    if (activePropertyValue.stream().noneMatch(e -> Objects.equals(e, element))) {
-                        nodeMap.set(activeGraph, activeSubject, activeProperty, JsonProvider.instance().createArrayBuilder(activePropertyValue).add(element).build());
-                    }
+                    nodeMap.addDistinct(activeGraph, activeSubject, activeProperty, element);
 
                 // 4.1.2.
                 } else {
-                    nodeMap.set(activeGraph, activeSubject, activeProperty, JsonProvider.instance().createArrayBuilder().add(JsonUtils.toJsonObject(elementObject)).build());
+                    nodeMap.add(activeGraph, activeSubject, activeProperty, JsonMap.of(elementObject));
                 }
 
             // 4.2.
             } else {
-                list.put(Keywords.LIST, JsonProvider.instance().createArrayBuilder(list.get(Keywords.LIST).asJsonArray()).add(element).build());
+                list.add(element);
             }
 
         // 5.
         } else if (elementObject.containsKey(Keywords.LIST)) {
 
             // 5.1.
-            Map<String, JsonValue> result = new LinkedHashMap<>();
-            result.put(Keywords.LIST, JsonValue.EMPTY_JSON_ARRAY);
+            final JsonArrayBuilder result = JsonProvider.instance().createArrayBuilder();
 
             // 5.2.
             NodeMapBuilder
@@ -189,26 +182,15 @@ public final class NodeMapBuilder {
                     .build();
 
 
+            final JsonObject listObject = JsonProvider.instance().createObjectBuilder().add(Keywords.LIST, result).build();
+
             // 5.3.
             if (list == null) {
-
-                if (nodeMap.contains(activeGraph, activeSubject, activeProperty)) {
-
-                    nodeMap.set(activeGraph, activeSubject, activeProperty,
-                                JsonProvider.instance().createArrayBuilder(
-                                        nodeMap.get(activeGraph, activeSubject, activeProperty)
-                                            .asJsonArray())
-                                            .add(JsonUtils.toJsonObject(result))
-                                            .build()
-                                );
-
-                } else {
-                    nodeMap.set(activeGraph, activeSubject, activeProperty, JsonProvider.instance().createArrayBuilder().add(JsonUtils.toJsonObject(result)).build());
-                }
+                nodeMap.add(activeGraph, activeSubject, activeProperty, listObject);
 
             // 5.4.
             } else {
-                list.put(Keywords.LIST, JsonProvider.instance().createArrayBuilder(list.get(Keywords.LIST).asJsonArray()).add(JsonUtils.toJsonObject(result)).build());
+                list.add(listObject);
             }
 
         // 6.
@@ -247,19 +229,8 @@ public final class NodeMapBuilder {
             // 6.5.
             if (referencedNode != null) {
 
-                // 6.5.1.
-                if (nodeMap.contains(activeGraph, id, activeProperty)) {
-
-                    final JsonArray activePropertyValue = nodeMap.get(activeGraph, id, activeProperty).asJsonArray();
-
-                    if (activePropertyValue.stream().filter(JsonUtils::isObject).noneMatch(e -> Objects.equals(e.asJsonObject(), JsonUtils.toJsonObject(referencedNode)))) {
-                        nodeMap.set(activeGraph, id, activeProperty, JsonProvider.instance().createArrayBuilder(activePropertyValue).add(JsonUtils.toJsonObject(referencedNode)).build());
-                    }
-
-                // 6.5.2.
-                } else {
-                    nodeMap.set(activeGraph, id, activeProperty, JsonProvider.instance().createArrayBuilder().add(JsonUtils.toJsonObject(referencedNode)).build());
-                }
+                // 6.5.1., 6.5.2.
+                nodeMap.addDistinct(activeGraph, id, activeProperty, JsonUtils.toJsonObject(referencedNode));
 
             // 6.6.
             } else if (activeProperty != null) {
@@ -270,23 +241,12 @@ public final class NodeMapBuilder {
                 // 6.6.2.
                 if (list == null) {
 
-                    // 6.6.2.2.
-                    if (nodeMap.contains(activeGraph, activeSubject, activeProperty)) {
-
-                        final JsonArray activePropertyValue = nodeMap.get(activeGraph, activeSubject, activeProperty).asJsonArray();
-
-                        if (activePropertyValue.stream().noneMatch(e -> Objects.equals(e, reference))) {
-                            nodeMap.set(activeGraph, activeSubject, activeProperty, JsonProvider.instance().createArrayBuilder(activePropertyValue).add(reference).build());
-                        }
-
-                    // 6.6.2.1.
-                    } else {
-                        nodeMap.set(activeGraph, activeSubject, activeProperty, JsonProvider.instance().createArrayBuilder().add(reference).build());
-                    }
+                    // 6.6.2.1., 6.6.2.2.
+                    nodeMap.addDistinct(activeGraph, activeSubject, activeProperty, reference);
 
                 // 6.6.3.
                 } else {
-                    list.put(Keywords.LIST, JsonProvider.instance().createArrayBuilder(list.get(Keywords.LIST).asJsonArray()).add(reference).build());
+                    list.add(reference);
                 }
             }
 
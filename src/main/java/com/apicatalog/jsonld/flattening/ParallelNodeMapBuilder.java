@@ -0,0 +1,321 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.flattening;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.json.JsonUtils;
+import com.apicatalog.jsonld.lang.BlankNode;
+import com.apicatalog.jsonld.lang.Keywords;
+import com.apicatalog.jsonld.lang.NodeObject;
+import com.apicatalog.jsonld.lang.Utils;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Builds a node map of top-level elements split into partitions, each
+ * partition built into its own node map in parallel. The node maps are then
+ * appended in the partitions order.
+ * <p>
+ * The partitions are scanned for blank node identifiers first, in the order
+ * {@link NodeMapBuilder} generates them, so each partition continues the
+ * numbering of the preceding partitions. The result is equal to the node map
+ * built by {@link NodeMapBuilder}. If a partition fails, or generates other
+ * identifiers than scanned, the elements are processed again sequentially.
+ * </p>
+ */
+final class ParallelNodeMapBuilder {
+
+    private ParallelNodeMapBuilder() {
+    }
+
+    static final NodeMap build(final JsonArray elements, final Executor executor) throws JsonLdError {
+
+        if (elements.isEmpty()) {
+            return new NodeMap();
+        }
+
+        final int partitionSize = Math.max(1, elements.size() / (4 * parallelism(executor)));
+
+        final Partition[] partitions = new Partition[(elements.size() + partitionSize - 1) / partitionSize];
+
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(elements, i * partitionSize, Math.min(elements.size(), (i + 1) * partitionSize));
+        }
+
+        // 1. collect blank node identifiers
+        run(partitions, Partition::scan, executor);
+
+        // 2. number the identifiers as a single generator does
+        final Map<String, Integer> numbers = new HashMap<>();
+
+        int counter = 0;
+
+        for (final Partition partition : partitions) {
+
+            if (partition.failed) {
+                return sequential(elements);
+            }
+
+            partition.generator = new BlankNodeIdGenerator(counter, numbers);
+
+            for (final String identifier : partition.identifiers) {
+                if (identifier == null) {
+                    counter++;
+
+                } else if (!numbers.containsKey(identifier)) {
+                    numbers.put(identifier, counter++);
+                }
+            }
+
+            partition.identifiers = null;
+            partition.counter = counter;
+        }
+
+        // 3. build a node map of each partition
+        run(partitions, Partition::build, executor);
+
+        // 4. append the node maps
+        final NodeMap nodeMap = new NodeMap(new BlankNodeIdGenerator(counter, numbers));
+
+        for (final Partition partition : partitions) {
+
+            // the scan does not follow the builder, the identifiers cannot be trusted
+            if (partition.failed || partition.generator.getCounter() != partition.counter) {
+                return sequential(elements);
+            }
+
+            try {
+                nodeMap.append(partition.nodeMap);
+
+            } catch (JsonLdError e) {
+                return sequential(elements);
+            }
+        }
+
+        return nodeMap;
+    }
+
+    private static final NodeMap sequential(final JsonArray elements) throws JsonLdError {
+        return NodeMapBuilder.with(elements, new NodeMap()).build();
+    }
+
+    // the partitions but the first are processed by the executor
+    private static final void run(final Partition[] partitions, final Consumer<Partition> task, final Executor executor) {
+
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[partitions.length - 1];
+
+        for (int i = 1; i < partitions.length; i++) {
+            final Partition partition = partitions[i];
+            futures[i - 1] = CompletableFuture.runAsync(() -> task.accept(partition), executor);
+        }
+
+        task.accept(partitions[0]);
+
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private static final int parallelism(final Executor executor) {
+        return executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Collects blank node identifiers passed to the generator by
+     * {@link NodeMapBuilder}, <code>null</code> for a new identifier. Must
+     * follow the builder steps.
+     */
+    private static final void scan(final JsonValue element, final List<String> identifiers) {
+
+        // 1.
+        if (JsonUtils.isArray(element)) {
+            for (final JsonValue item : element.asJsonArray()) {
+                scan(item, identifiers);
+            }
+            return;
+        }
+
+        if (JsonUtils.isNotObject(element)) {
+            return;
+        }
+
+        final JsonObject elementObject = element.asJsonObject();
+
+        // 3.
+        if (elementObject.containsKey(Keywords.TYPE)) {
+            JsonUtils.toStream(elementObject.get(Keywords.TYPE))
+                    .filter(item -> JsonUtils.isString(item) && BlankNode.hasPrefix(((JsonString) item).getString()))
+                    .forEach(item -> identifiers.add(((JsonString) item).getString()));
+        }
+
+        // 4.
+        if (elementObject.containsKey(Keywords.VALUE)) {
+            return;
+        }
+
+        // 5.
+        if (elementObject.containsKey(Keywords.LIST)) {
+            scan(elementObject.get(Keywords.LIST), identifiers);
+            return;
+        }
+
+        // 6.
+        if (NodeObject.isNotNodeObject(element)) {
+            return;
+        }
+
+        // 6.1.
+        if (elementObject.containsKey(Keywords.ID)) {
+
+            final JsonValue idValue = elementObject.get(Keywords.ID);
+
+            if (JsonUtils.isNull(idValue) || JsonUtils.isNotString(idValue)) {
+                return;
+            }
+
+            final String id = ((JsonString) idValue).getString();
+
+            if (BlankNode.hasPrefix(id)) {
+                identifiers.add(id);
+            }
+
+        // 6.2.
+        } else {
+            identifiers.add(null);
+        }
+
+        // 6.9.
+        if (elementObject.containsKey(Keywords.REVERSE)) {
+            for (final JsonValue values : elementObject.getJsonObject(Keywords.REVERSE).values()) {
+                scan(values, identifiers);
+            }
+        }
+
+        // 6.10.
+        if (elementObject.containsKey(Keywords.GRAPH)) {
+            scan(elementObject.get(Keywords.GRAPH), identifiers);
+        }
+
+        // 6.11.
+        if (elementObject.containsKey(Keywords.INCLUDED)) {
+            scan(elementObject.get(Keywords.INCLUDED), identifiers);
+        }
+
+        // 6.12.
+        for (final String property : Utils.index(elementObject.keySet(), true)) {
+
+            if (Keywords.ID.equals(property)
+                    || Keywords.TYPE.equals(property)
+                    || Keywords.INDEX.equals(property)
+                    || Keywords.REVERSE.equals(property)
+                    || Keywords.GRAPH.equals(property)
+                    || Keywords.INCLUDED.equals(property)) {
+                continue;
+            }
+
+            final JsonValue value = elementObject.get(property);
+
+            if (JsonUtils.isNotArray(value) && JsonUtils.isNotObject(value)) {
+                continue;
+            }
+
+            // 6.12.1.
+            if (BlankNode.hasPrefix(property)) {
+                identifiers.add(property);
+            }
+
+            scan(value, identifiers);
+        }
+    }
+
+    private static final class Partition {
+
+        final JsonArray elements;
+        final int from;
+        final int to;
+
+        // blank node identifiers in the order of generation
+        List<String> identifiers;
+
+        BlankNodeIdGenerator generator;
+
+        // the expected generator counter after the partition is built
+        int counter;
+
+        NodeMap nodeMap;
+
+        boolean failed;
+
+        Partition(final JsonArray elements, final int from, final int to) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.failed = false;
+        }
+
+        void scan() {
+            identifiers = new ArrayList<>();
+
+            try {
+                for (int i = from; i < to; i++) {
+                    ParallelNodeMapBuilder.scan(elements.get(i), identifiers);
+                }
+
+            } catch (RuntimeException e) {
+                failed = true;
+            }
+        }
+
+        // see NodeMapBuilder step 1.1.
+        void build() {
+
+            nodeMap = new NodeMap(generator);
+
+            try {
+                for (int i = from; i < to; i++) {
+
+                    final JsonValue item = elements.get(i);
+
+                    if (JsonUtils.isObject(item)) {
+                        NodeMapBuilder.with(item.asJsonObject(), nodeMap).build();
+
+                    } else if (JsonUtils.isArray(item)) {
+                        NodeMapBuilder.with(item.asJsonArray(), nodeMap).build();
+
+                    } else {
+                        failed = true;
+                        return;
+                    }
+                }
+
+            } catch (JsonLdError | RuntimeException e) {
+                failed = true;
+            }
+        }
+    }
+}
@@ -17,8 +17,10 @@ package com.apicatalog.jsonld.framing;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.json.JsonUtils;
@@ -28,6 +30,7 @@ import com.apicatalog.jsonld.lang.NodeObject;
 import com.apicatalog.jsonld.lang.ValueObject;
 
 import jakarta.json.JsonArray;
+import jakarta.json.JsonString;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 
@@ -57,7 +60,7 @@ public final class FrameMatcher {
 
         final List<String> result = new ArrayList<>();
 
-        for (final String subject : subjects) {
+        for (final String subject : candidates(subjects)) {
 
             if (match(state.getGraphMap().get(state.getGraphName(), subject))) {
                 result.add(subject);
@@ -67,6 +70,142 @@ public final class FrameMatcher {
         return result;
     }
 
+    /**
+     * Selects the given subjects the frame can match by the graph subject
+     * index. Only entries every matching node must satisfy are considered,
+     * i.e. <code>@id</code> and <code>@type</code>, and properties if all
+     * entries are required. The selected subjects keep the given order.
+     *
+     * @param subjects to select from
+     * @return candidates to match, or the given subjects
+     */
+    private Collection<String> candidates(final Collection<String> subjects) {
+
+        if (subjects.size() < 2) {
+            return subjects;
+        }
+
+        final SubjectIndex index = state.getSubjectIndex();
+
+        Collection<String> candidates = null;
+
+        for (final String property : frame.keys()) {
+
+            final Collection<String> selected;
+
+            if (Keywords.ID.equals(property)) {
+                selected = selectById(index);
+
+            } else if (Keywords.TYPE.equals(property)) {
+                selected = selectByType(index);
+
+            } else if (Keywords.matchForm(property)) {
+                continue;
+
+            } else if (requireAll) {
+
+                final JsonValue propertyValue = frame.get(property);
+
+                if (JsonUtils.isNonEmptyArray(propertyValue)) {
+
+                    final Frame propertyFrame;
+
+                    try {
+                        propertyFrame = Frame.of((JsonStructure) propertyValue);
+
+                    } catch (JsonLdError e) {
+                        // let the matcher report an invalid frame
+                        return subjects;
+                    }
+
+                    // 2.5.
+                    selected = propertyFrame.containsOnly(Keywords.DEFAULT)
+                                    ? null
+                                    : index.getByProperty(property);
+
+                } else {
+                    selected = null;
+                }
+
+            } else {
+                // a node having any of the properties can match
+                break;
+            }
+
+            if (selected != null && (candidates == null || selected.size() < candidates.size())) {
+                candidates = selected;
+            }
+
+            // the first @id or @type entry decides unless all entries are required
+            if (!requireAll) {
+                break;
+            }
+        }
+
+        if (candidates == null) {
+            return subjects;
+        }
+
+        // all the graph subjects, Framing passes them in the graph map order
+        if (subjects.size() == index.size()) {
+            return index.sort(candidates);
+        }
+
+        final Set<String> selected = candidates instanceof Set
+                                        ? (Set<String>) candidates
+                                        : new HashSet<>(candidates);
+
+        final List<String> result = new ArrayList<>();
+
+        for (final String subject : subjects) {
+            if (selected.contains(subject)) {
+                result.add(subject);
+            }
+        }
+
+        return result;
+    }
+
+    // 2.1.
+    private Collection<String> selectById(final SubjectIndex index) {
+
+        if (frame.isWildCard(Keywords.ID) || frame.isNone(Keywords.ID)) {
+            return null;
+        }
+
+        final Set<String> selected = new HashSet<>();
+
+        for (final JsonValue id : frame.getCollection(Keywords.ID)) {
+            if (JsonUtils.isString(id) && index.contains(((JsonString) id).getString())) {
+                selected.add(((JsonString) id).getString());
+            }
+        }
+
+        return selected;
+    }
+
+    // 2.2.
+    private Collection<String> selectByType(final SubjectIndex index) {
+
+        if (frame.isDefaultObject(Keywords.TYPE) || frame.isNone(Keywords.TYPE)) {
+            return null;
+        }
+
+        if (frame.isWildCard(Keywords.TYPE)) {
+            return index.getByProperty(Keywords.TYPE);
+        }
+
+        final Set<String> selected = new HashSet<>();
+
+        for (final JsonValue type : frame.getCollection(Keywords.TYPE)) {
+            if (JsonUtils.isString(type)) {
+                selected.addAll(index.getByType(((JsonString) type).getString()));
+            }
+        }
+
+        return selected;
+    }
+
     public boolean match(final Map<String, JsonValue> node) throws JsonLdError {
 
         int count = 0;
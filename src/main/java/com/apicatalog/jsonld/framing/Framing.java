@@ -20,7 +20,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import com.apicatalog.jsonld.JsonLdEmbed;
 import com.apicatalog.jsonld.JsonLdError;
@@ -359,38 +358,25 @@ public final class Framing {
 
                         final Frame subframe = Frame.of((JsonStructure)reverseObject.asJsonObject().get(reverseProperty));
 
-                        for (final String subjectProperty : state.getGraphMap().get(state.getGraphName()).map(Map::keySet).orElseGet(() -> Collections.emptySet())) {
+                        for (final String subjectProperty : state.getReferencingSubjects(id, reverseProperty)) {
 
-                            final JsonValue nodeValues = state.getGraphMap().get(state.getGraphName(), subjectProperty, reverseProperty);
+                            final JsonMapBuilder reverseResult = JsonMapBuilder.create();
 
-                            if (nodeValues != null
-                                    && JsonUtils.toStream(nodeValues)
-                                                .filter(JsonUtils::isObject)
-                                                .map(JsonObject.class::cast)
-                                                .filter(v -> v.containsKey(Keywords.ID))
-                                                .map(v -> v.getString(Keywords.ID))
-                                                .anyMatch(vid -> Objects.equals(vid, id))
-                                    ) {
+                            final FramingState reverseState = new FramingState(state);
+                            reverseState.setEmbedded(true);
 
-                                final JsonMapBuilder reverseResult = JsonMapBuilder.create();
+                            Framing.with(
+                                        reverseState,
+                                        Arrays.asList(subjectProperty),
+                                        subframe,
+                                        reverseResult,
+                                        null)
+                                    .ordered(ordered)
+                                    .frame();
 
-                                final FramingState reverseState = new FramingState(state);
-                                reverseState.setEmbedded(true);
-
-                                Framing.with(
-                                            reverseState,
-                                            Arrays.asList(subjectProperty),
-                                            subframe,
-                                            reverseResult,
-                                            null)
-                                        .ordered(ordered)
-                                        .frame();
-
-                                output
-                                    .getMapBuilder(Keywords.REVERSE)
-                                    .add(reverseProperty, reverseResult.valuesToArray());
-
-                            }
+                            output
+                                .getMapBuilder(Keywords.REVERSE)
+                                .add(reverseProperty, reverseResult.valuesToArray());
                         }
                     }
                 }
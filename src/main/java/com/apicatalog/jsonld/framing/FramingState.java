@@ -16,12 +16,20 @@
 package com.apicatalog.jsonld.framing;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.apicatalog.jsonld.JsonLdEmbed;
 import com.apicatalog.jsonld.flattening.NodeMap;
+import com.apicatalog.jsonld.json.JsonUtils;
+import com.apicatalog.jsonld.lang.Keywords;
+
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 
 public final class FramingState {
 
@@ -39,9 +47,17 @@ public final class FramingState {
 
     private Deque<String> parents;
 
+    // graph name -> referenced node -> property -> referencing subjects
+    private Map<String, Map<String, Map<String, List<String>>>> references;
+
+    // graph name -> subjects by types and properties
+    private Map<String, SubjectIndex> subjectIndexes;
+
     public FramingState() {
         this.done = new HashMap<>();
         this.parents = new ArrayDeque<>();
+        this.references = new HashMap<>();
+        this.subjectIndexes = new HashMap<>();
     }
 
     public FramingState(FramingState state) {
@@ -54,6 +70,8 @@ public final class FramingState {
         this.graphName = state.graphName;
         this.done = state.done;
         this.parents =  state.parents;
+        this.references = state.references;
+        this.subjectIndexes = state.subjectIndexes;
     }
 
     public JsonLdEmbed getEmbed() {
@@ -135,4 +153,74 @@ public final class FramingState {
     public void clearDone() {
         done.clear();
     }
+
+    /**
+     * Returns subjects of the current graph referencing the given node by the
+     * given property, in the order of the graph map. An index of the graph
+     * references is built on the first call, the graph map must not be
+     * changed afterwards.
+     *
+     * @param id a referenced node identifier
+     * @param property a property referencing the node
+     * @return a list of subjects, never <code>null</code>
+     *
+     * @since 1.5.0
+     */
+    public List<String> getReferencingSubjects(String id, String property) {
+        return references
+                    .computeIfAbsent(graphName, this::indexReferences)
+                    .getOrDefault(id, Collections.emptyMap())
+                    .getOrDefault(property, Collections.emptyList());
+    }
+
+    /**
+     * Returns an index of the current graph subjects. The index is built on
+     * the first call, the graph map must not be changed afterwards.
+     *
+     * @return the current graph subject index
+     */
+    SubjectIndex getSubjectIndex() {
+        return subjectIndexes.computeIfAbsent(graphName, name -> SubjectIndex.of(graphMap.get(name).orElseGet(Collections::emptyMap)));
+    }
+
+    private Map<String, Map<String, List<String>>> indexReferences(final String graphName) {
+
+        final Map<String, Map<String, List<String>>> index = new HashMap<>();
+
+        final Map<String, Map<String, JsonValue>> graph = graphMap.get(graphName).orElse(null);
+
+        if (graph == null) {
+            return index;
+        }
+
+        for (final Map.Entry<String, Map<String, JsonValue>> node : graph.entrySet()) {
+
+            for (final Map.Entry<String, JsonValue> property : node.getValue().entrySet()) {
+
+                for (final JsonValue value : JsonUtils.toCollection(property.getValue())) {
+
+                    if (!JsonUtils.isObject(value)) {
+                        continue;
+                    }
+
+                    final JsonValue id = value.asJsonObject().get(Keywords.ID);
+
+                    if (!JsonUtils.isString(id)) {
+                        continue;
+                    }
+
+                    final List<String> subjects = index
+                                                    .computeIfAbsent(((JsonString) id).getString(), x -> new HashMap<>())
+                                                    .computeIfAbsent(property.getKey(), x -> new ArrayList<>());
+
+                    // a subject referencing the node more than once is listed once
+                    if (subjects.isEmpty() || !subjects.get(subjects.size() - 1).equals(node.getKey())) {
+                        subjects.add(node.getKey());
+                    }
+                }
+            }
+        }
+
+        return index;
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.framing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.apicatalog.jsonld.json.JsonUtils;
+import com.apicatalog.jsonld.lang.Keywords;
+
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Subjects of a graph indexed by types and by properties having a value, used
+ * to select candidates a frame can match. Subject lists keep the graph map
+ * order.
+ *
+ * @since 1.5.0
+ */
+final class SubjectIndex {
+
+    private final Map<String, Integer> positions;
+
+    private final Map<String, List<String>> types;
+
+    private final Map<String, List<String>> properties;
+
+    private SubjectIndex(final Map<String, Integer> positions, final Map<String, List<String>> types, final Map<String, List<String>> properties) {
+        this.positions = positions;
+        this.types = types;
+        this.properties = properties;
+    }
+
+    static final SubjectIndex of(final Map<String, Map<String, JsonValue>> graph) {
+
+        final Map<String, Integer> positions = new HashMap<>(graph.size() * 2);
+        final Map<String, List<String>> types = new HashMap<>();
+        final Map<String, List<String>> properties = new HashMap<>();
+
+        for (final Map.Entry<String, Map<String, JsonValue>> node : graph.entrySet()) {
+
+            positions.put(node.getKey(), positions.size());
+
+            for (final Map.Entry<String, JsonValue> property : node.getValue().entrySet()) {
+
+                final Collection<JsonValue> values = JsonUtils.toCollection(property.getValue());
+
+                if (values.isEmpty()) {
+                    continue;
+                }
+
+                properties.computeIfAbsent(property.getKey(), x -> new ArrayList<>()).add(node.getKey());
+
+                if (!Keywords.TYPE.equals(property.getKey())) {
+                    continue;
+                }
+
+                for (final JsonValue type : values) {
+                    if (JsonUtils.isString(type)) {
+                        final List<String> subjects = types.computeIfAbsent(((JsonString) type).getString(), x -> new ArrayList<>());
+
+                        if (subjects.isEmpty() || !subjects.get(subjects.size() - 1).equals(node.getKey())) {
+                            subjects.add(node.getKey());
+                        }
+                    }
+                }
+            }
+        }
+
+        return new SubjectIndex(positions, types, properties);
+    }
+
+    int size() {
+        return positions.size();
+    }
+
+    boolean contains(final String subject) {
+        return positions.containsKey(subject);
+    }
+
+    List<String> getByType(final String type) {
+        return types.getOrDefault(type, Collections.emptyList());
+    }
+
+    List<String> getByProperty(final String property) {
+        return properties.getOrDefault(property, Collections.emptyList());
+    }
+
+    /**
+     * Returns the given subjects of the graph in the graph map order.
+     *
+     * @param subjects distinct subjects of the graph
+     * @return a new sorted list
+     */
+    List<String> sort(final Collection<String> subjects) {
+
+        final List<String> sorted = new ArrayList<>(subjects);
+
+        sorted.sort((a, b) -> Integer.compare(positions.get(a), positions.get(b)));
+
+        return sorted;
+    }
+}
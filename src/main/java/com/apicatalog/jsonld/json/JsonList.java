@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.json;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * A lightweight {@link JsonArray} wrapping a list built by a processing stage
+ * without copying it. The wrapped list must not be modified once it is
+ * wrapped, the array is read-only.
+ *
+ * @since 1.5.0
+ */
+public final class JsonList extends AbstractList<JsonValue> implements JsonArray, RandomAccess {
+
+    private final List<JsonValue> list;
+
+    private JsonList(final List<JsonValue> list) {
+        this.list = list;
+    }
+
+    /**
+     * Wraps the given list. The list is owned by the returned array and must
+     * not be modified afterwards.
+     *
+     * @param list a list to wrap
+     * @return a new {@link JsonArray} backed by the given list
+     */
+    public static final JsonArray of(final List<JsonValue> list) {
+        return list.isEmpty()
+                ? JsonValue.EMPTY_JSON_ARRAY
+                : new JsonList(list);
+    }
+
+    @Override
+    public JsonValue get(final int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public JsonObject getJsonObject(final int index) {
+        return (JsonObject) list.get(index);
+    }
+
+    @Override
+    public JsonArray getJsonArray(final int index) {
+        return (JsonArray) list.get(index);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(final int index) {
+        return (JsonNumber) list.get(index);
+    }
+
+    @Override
+    public JsonString getJsonString(final int index) {
+        return (JsonString) list.get(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends JsonValue> List<T> getValuesAs(final Class<T> clazz) {
+        return (List<T>) this;
+    }
+
+    @Override
+    public String getString(final int index) {
+        return getJsonString(index).getString();
+    }
+
+    @Override
+    public String getString(final int index, final String defaultValue) {
+        final JsonValue value = index >= 0 && index < list.size() ? list.get(index) : null;
+        return value instanceof JsonString
+                ? ((JsonString) value).getString()
+                : defaultValue;
+    }
+
+    @Override
+    public int getInt(final int index) {
+        return getJsonNumber(index).intValue();
+    }
+
+    @Override
+    public int getInt(final int index, final int defaultValue) {
+        final JsonValue value = index >= 0 && index < list.size() ? list.get(index) : null;
+        return value instanceof JsonNumber
+                ? ((JsonNumber) value).intValue()
+                : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(final int index) {
+        final JsonValue value = list.get(index);
+
+        if (value != null && value.getValueType() == ValueType.TRUE) {
+            return true;
+        }
+        if (value != null && value.getValueType() == ValueType.FALSE) {
+            return false;
+        }
+        throw new ClassCastException();
+    }
+
+    @Override
+    public boolean getBoolean(final int index, final boolean defaultValue) {
+        final JsonValue value = index >= 0 && index < list.size() ? list.get(index) : null;
+
+        if (value != null && value.getValueType() == ValueType.TRUE) {
+            return true;
+        }
+        if (value != null && value.getValueType() == ValueType.FALSE) {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean isNull(final int index) {
+        return list.get(index).getValueType() == ValueType.NULL;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public String toString() {
+        return JsonProvider.instance().createArrayBuilder(this).build().toString();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.json;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * A lightweight {@link JsonObject} wrapping a map built by a processing stage,
+ * e.g. by {@link JsonMapBuilder} or a node map, without copying it. The
+ * wrapped map must not be modified once it is wrapped, the object is
+ * read-only.
+ *
+ * @since 1.5.0
+ */
+public final class JsonMap extends AbstractMap<String, JsonValue> implements JsonObject {
+
+    private final Map<String, JsonValue> map;
+
+    private Set<Entry<String, JsonValue>> entrySet;
+
+    private JsonMap(final Map<String, JsonValue> map) {
+        this.map = map;
+    }
+
+    /**
+     * Wraps the given map. The map is owned by the returned object and must
+     * not be modified afterwards.
+     *
+     * @param map a map to wrap
+     * @return a new {@link JsonObject} backed by the given map
+     */
+    public static final JsonObject of(final Map<String, JsonValue> map) {
+        return new JsonMap(map);
+    }
+
+    @Override
+    public Set<Entry<String, JsonValue>> entrySet() {
+        if (entrySet == null) {
+            entrySet = Collections.unmodifiableMap(map).entrySet();
+        }
+        return entrySet;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public JsonValue get(final Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
+    @Override
+    public JsonArray getJsonArray(final String name) {
+        return (JsonArray) map.get(name);
+    }
+
+    @Override
+    public JsonObject getJsonObject(final String name) {
+        return (JsonObject) map.get(name);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(final String name) {
+        return (JsonNumber) map.get(name);
+    }
+
+    @Override
+    public JsonString getJsonString(final String name) {
+        return (JsonString) map.get(name);
+    }
+
+    @Override
+    public String getString(final String name) {
+        return getJsonString(name).getString();
+    }
+
+    @Override
+    public String getString(final String name, final String defaultValue) {
+        final JsonValue value = map.get(name);
+        return value instanceof JsonString
+                ? ((JsonString) value).getString()
+                : defaultValue;
+    }
+
+    @Override
+    public int getInt(final String name) {
+        return getJsonNumber(name).intValue();
+    }
+
+    @Override
+    public int getInt(final String name, final int defaultValue) {
+        final JsonValue value = map.get(name);
+        return value instanceof JsonNumber
+                ? ((JsonNumber) value).intValue()
+                : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(final String name) {
+        final JsonValue value = map.get(name);
+
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        if (value.getValueType() == ValueType.TRUE) {
+            return true;
+        }
+        if (value.getValueType() == ValueType.FALSE) {
+            return false;
+        }
+        throw new ClassCastException();
+    }
+
+    @Override
+    public boolean getBoolean(final String name, final boolean defaultValue) {
+        final JsonValue value = map.get(name);
+
+        if (value != null && value.getValueType() == ValueType.TRUE) {
+            return true;
+        }
+        if (value != null && value.getValueType() == ValueType.FALSE) {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean isNull(final String name) {
+        return map.get(name).getValueType() == ValueType.NULL;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public String toString() {
+        return JsonProvider.instance().createObjectBuilder(this).build().toString();
+    }
+}
@@ -15,9 +15,11 @@
  */
 package com.apicatalog.jsonld.json;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -39,33 +41,78 @@ public final class JsonMapBuilder {
             Keywords.INDEX, 
             Keywords.ANNOTATION);
 
-    private final Map<String, Object> map;
+    private Map<String, Object> map;
+
+    // true if the map is wrapped by a built object, a change copies it first
+    private boolean shared;
+
+    // an unchanged object the builder has been created from
+    private JsonObject origin;
+
+    @SuppressWarnings("unchecked")
+    private JsonMapBuilder(JsonObject origin) {
+        this.map = (Map<String, Object>) (Map<String, ?>) origin;
+        this.shared = true;
+        this.origin = origin;
+    }
 
     private JsonMapBuilder(Map<String, Object> map) {
         this.map = map;
+        this.shared = false;
+        this.origin = null;
     }
 
+    /**
+     * Builds an object backed by the builder's map, nested builders are built
+     * in place. The builder can be used afterwards, the first change copies
+     * the map.
+     *
+     * @return a new {@link JsonObject}
+     */
+    @SuppressWarnings("unchecked")
     public JsonObject build() {
 
-        final JsonObjectBuilder builder = JsonProvider.instance().createObjectBuilder();
+        if (origin != null) {
+            return origin;
+        }
 
         for (final Map.Entry<String, Object> entry : map.entrySet()) {
 
-            if (entry.getValue() instanceof JsonValue) {
-                builder.add(entry.getKey(), (JsonValue)entry.getValue());
+            final JsonValue value = toJsonValue(entry.getValue());
 
-            } else if (entry.getValue() instanceof JsonArrayBuilder) {
-                builder.add(entry.getKey(), ((JsonArrayBuilder)entry.getValue()).build());
+            if (value != entry.getValue()) {
+                entry.setValue(value);
+            }
+        }
 
-            } else if (entry.getValue() instanceof JsonMapBuilder) {
-                builder.add(entry.getKey(), ((JsonMapBuilder)entry.getValue()).build());
+        shared = true;
 
-            } else {
-                throw new IllegalStateException();
-            }
+        // all values are JsonValue instances now
+        return JsonMap.of((Map<String, JsonValue>) (Map<String, ?>) map);
+    }
+
+    private Map<String, Object> mutableMap() {
+        if (shared) {
+            map = new LinkedHashMap<>(map);
+            shared = false;
+            origin = null;
+        }
+        return map;
+    }
+
+    private static final JsonValue toJsonValue(final Object item) {
+
+        if (item instanceof JsonValue) {
+            return (JsonValue)item;
+
+        } else if (item instanceof JsonArrayBuilder) {
+            return ((JsonArrayBuilder)item).build();
+
+        } else if (item instanceof JsonMapBuilder) {
+            return ((JsonMapBuilder)item).build();
         }
 
-        return builder.build();
+        throw new IllegalStateException();
     }
 
     public boolean containsKey(String key) {
@@ -73,7 +120,7 @@ public final class JsonMapBuilder {
     }
 
     public void put(String key, final JsonValue item) {
-        map.put(key, item);
+        mutableMap().put(key, item);
     }
 
     public int size() {
@@ -85,7 +132,8 @@ public final class JsonMapBuilder {
     }
 
     public static JsonMapBuilder create(JsonObject object) {
-        return new JsonMapBuilder(new LinkedHashMap<>(object));
+        // copied on the first change
+        return new JsonMapBuilder(object);
     }
 
     public static JsonMapBuilder create(Map<String, JsonValue> object) {
@@ -98,7 +146,7 @@ public final class JsonMapBuilder {
 
     public Optional<JsonValue> get(String key) {
 
-        Object item = map.get(key);
+        final Object item = map.get(key);
 
         if (item == null) {
             return Optional.empty();
@@ -106,14 +154,14 @@ public final class JsonMapBuilder {
 
         if (item instanceof JsonValue) {
             return Optional.of((JsonValue)item);
+        }
 
-        } else if (item instanceof JsonArrayBuilder) {
-            return Optional.of(((JsonArrayBuilder)item).build());
+        // a built array builder is reset, keep the built value instead
+        final JsonValue value = toJsonValue(item);
 
-        } else if (item instanceof JsonMapBuilder) {
-            return Optional.of(((JsonMapBuilder)item).build());
-        }
-        throw new IllegalStateException();
+        mutableMap().put(key, value);
+
+        return Optional.of(value);
     }
     
     public boolean isNotValueObject() {
@@ -121,25 +169,21 @@ public final class JsonMapBuilder {
     }
 
     public JsonArray valuesToArray() {
-        final JsonArrayBuilder array = JsonProvider.instance().createArrayBuilder();
 
-        for (final Object item : map.values()) {
+        final List<JsonValue> array = new ArrayList<>(map.size());
 
-            if (item instanceof JsonValue) {
-                array.add((JsonValue)item);
-
-            } else if (item instanceof JsonArrayBuilder) {
-                array.add(((JsonArrayBuilder)item).build());
+        for (final Map.Entry<String, Object> entry : map.entrySet()) {
 
-            } else if (item instanceof JsonMapBuilder) {
-                array.add(((JsonMapBuilder)item).build());
+            final JsonValue value = toJsonValue(entry.getValue());
 
-            } else {
-                throw new IllegalStateException();
+            if (value != entry.getValue()) {
+                entry.setValue(value);
             }
+
+            array.add(value);
         }
 
-        return array.build();
+        return JsonList.of(array);
     }
 
     public void add(String key, JsonValue value) {
@@ -171,17 +215,17 @@ public final class JsonMapBuilder {
                 if (original instanceof JsonValue) {
 
                     if (JsonUtils.isArray((JsonValue)original)) {
-                        map.put(key, JsonProvider.instance().createArrayBuilder(((JsonValue)original).asJsonArray()).add(value));
+                        mutableMap().put(key, JsonProvider.instance().createArrayBuilder(((JsonValue)original).asJsonArray()).add(value));
 
                     } else {
-                        map.put(key, JsonProvider.instance().createArrayBuilder().add((JsonValue)original).add(value));
+                        mutableMap().put(key, JsonProvider.instance().createArrayBuilder().add((JsonValue)original).add(value));
                     }
 
                 } else if (original instanceof JsonArrayBuilder) {
                     ((JsonArrayBuilder)original).add(value);
 
                 } else if (original instanceof JsonMapBuilder) {
-                    map.put(key, JsonProvider.instance().createArrayBuilder().add(((JsonMapBuilder)original).build()));
+                    mutableMap().put(key, JsonProvider.instance().createArrayBuilder().add(((JsonMapBuilder)original).build()));
 
                 } else {
                     throw new IllegalStateException();
@@ -189,7 +233,7 @@ public final class JsonMapBuilder {
 
             // 3.2
             } else {
-                map.put(key, value);
+                mutableMap().put(key, value);
             }
         }
     }
@@ -207,10 +251,10 @@ public final class JsonMapBuilder {
             if (original instanceof JsonValue) {
 
                 if (JsonUtils.isArray((JsonValue)original)) {
-                    map.put(key, JsonProvider.instance().createArrayBuilder(((JsonValue)original).asJsonArray()));
+                    mutableMap().put(key, JsonProvider.instance().createArrayBuilder(((JsonValue)original).asJsonArray()));
 
                 } else {
-                    map.put(key, JsonProvider.instance().createArrayBuilder().add((JsonValue)original));
+                    mutableMap().put(key, JsonProvider.instance().createArrayBuilder().add((JsonValue)original));
                 }
                 return;
 
@@ -218,18 +262,18 @@ public final class JsonMapBuilder {
                 return;
 
             } else if (original instanceof JsonMapBuilder) {
-                map.put(key, JsonProvider.instance().createArrayBuilder().add(((JsonMapBuilder)original).build()));
+                mutableMap().put(key, JsonProvider.instance().createArrayBuilder().add(((JsonMapBuilder)original).build()));
                 return;
 
             }
             throw new IllegalStateException();
         }
 
-        map.put(key, JsonProvider.instance().createArrayBuilder());
+        mutableMap().put(key, JsonProvider.instance().createArrayBuilder());
     }
 
     public void put(String key, JsonMapBuilder value) {
-        map.put(key, value);
+        mutableMap().put(key, value);
     }
 
     public JsonMapBuilder getMapBuilder(final String key) {
@@ -251,13 +295,13 @@ public final class JsonMapBuilder {
         }
 
         final JsonMapBuilder result = JsonMapBuilder.create();
-        map.put(key, result);
+        mutableMap().put(key, result);
 
         return result;
     }
 
     public void remove(String key) {
-        map.remove(key);
+        mutableMap().remove(key);
     }
 
     @Override
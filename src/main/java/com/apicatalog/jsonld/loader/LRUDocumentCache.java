@@ -1,17 +1,21 @@
 package com.apicatalog.jsonld.loader;
 
 import com.apicatalog.jsonld.JsonLdError;
-import com.apicatalog.jsonld.context.cache.LruCache;
+import com.apicatalog.jsonld.context.cache.ConcurrentCache;
 import com.apicatalog.jsonld.document.Document;
 
 import java.net.URI;
 import java.util.Objects;
 
+/**
+ * A thread-safe caching {@link DocumentLoader}. Concurrent requests for the same
+ * document are coalesced into one request sent to the underlying loader.
+ */
 public class LRUDocumentCache implements DocumentLoader {
 
     private final DocumentLoader documentLoader;
 
-    private final LruCache<Object, Document> cache;
+    private final ConcurrentCache<Object, Document> cache;
 
     protected static class CacheKey {
 
@@ -44,19 +48,26 @@ public class LRUDocumentCache implements DocumentLoader {
     }
 
     public LRUDocumentCache(DocumentLoader documentLoader, int cacheSize) {
+        this(documentLoader, new ConcurrentCache<>(cacheSize));
+    }
+
+    /**
+     * Creates a new caching loader backed by the given cache, e.g. to set
+     * expiration or to read cache statistics.
+     *
+     * @param documentLoader a loader to delegate to
+     * @param cache a cache to use
+     *
+     * @since 1.5.0
+     */
+    public LRUDocumentCache(DocumentLoader documentLoader, ConcurrentCache<Object, Document> cache) {
         this.documentLoader = documentLoader;
-        this.cache = new LruCache<>(cacheSize);
+        this.cache = cache;
     }
 
     @Override
     public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
-        Object key = createCacheKey(url, options);
-        Document result = cache.get(key);
-        if (result == null) {
-            result = documentLoader.loadDocument(url, options);
-            cache.put(key, result);
-        }
-        return result;
+        return cache.get(createCacheKey(url, options), key -> documentLoader.loadDocument(url, options));
     }
 
     protected Object createCacheKey(URI url, DocumentLoaderOptions options){
@@ -16,6 +16,7 @@
 package com.apicatalog.jsonld.processor;
 
 import java.net.URI;
+import java.util.Map;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
@@ -29,8 +30,10 @@ import com.apicatalog.jsonld.lang.Keywords;
 import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
 
 import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  *
@@ -44,6 +47,112 @@ public final class CompactionProcessor {
     }
 
     public static final JsonObject compact(final URI input, final URI context, final JsonLdOptions options) throws JsonLdError {
+        return compact(input, loadContext(context, options), options);
+    }
+
+    public static final JsonObject compact(final URI input, final Document context, final JsonLdOptions options) throws JsonLdError {
+        return compact(loadInput(input, options), context, options);
+    }
+
+    public static final JsonObject compact(final Document input, final URI context, final JsonLdOptions options) throws JsonLdError {
+        return compact(input, loadContext(context, options), options);
+    }
+
+    public static final JsonObject compact(final Document input, final Document context, final JsonLdOptions options) throws JsonLdError {
+
+        // 4.
+        final JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions(options), false);
+
+        // 6.
+        final JsonValue contextValue = contextValue(context);
+
+        return compact(expandedInput, activeContext(input, contextValue, options), contextValue, options);
+    }
+
+    /**
+     * Writes the compacted document to the given generator, each top-level
+     * node as soon as it is compacted, without building the compacted
+     * document.
+     *
+     * @param input a document to compact
+     * @param context a context to compact the document with
+     * @param options processing options
+     * @param generator receiving the compacted document, not closed
+     * @throws JsonLdError if the compaction has failed
+     *
+     * @since 1.5.0
+     */
+    public static final void compact(final URI input, final URI context, final JsonLdOptions options, final JsonGenerator generator) throws JsonLdError {
+        compact(input, loadContext(context, options), options, generator);
+    }
+
+    /**
+     * Writes the compacted document to the given generator, each top-level
+     * node as soon as it is compacted, without building the compacted
+     * document.
+     *
+     * @param input a document to compact
+     * @param context a context to compact the document with
+     * @param options processing options
+     * @param generator receiving the compacted document, not closed
+     * @throws JsonLdError if the compaction has failed
+     *
+     * @since 1.5.0
+     */
+    public static final void compact(final URI input, final Document context, final JsonLdOptions options, final JsonGenerator generator) throws JsonLdError {
+        compact(loadInput(input, options), context, options, generator);
+    }
+
+    /**
+     * Writes the compacted document to the given generator, each top-level
+     * node as soon as it is compacted, without building the compacted
+     * document.
+     *
+     * @param input a document to compact
+     * @param context a context to compact the document with
+     * @param options processing options
+     * @param generator receiving the compacted document, not closed
+     * @throws JsonLdError if the compaction has failed
+     *
+     * @since 1.5.0
+     */
+    public static final void compact(final Document input, final URI context, final JsonLdOptions options, final JsonGenerator generator) throws JsonLdError {
+        compact(input, loadContext(context, options), options, generator);
+    }
+
+    /**
+     * Writes the compacted document to the given generator, each top-level
+     * node as soon as it is compacted, without building the compacted
+     * document. The expanded document is built in memory.
+     *
+     * @param input a document to compact
+     * @param context a context to compact the document with
+     * @param options processing options
+     * @param generator receiving the compacted document, not closed
+     * @throws JsonLdError if the compaction has failed
+     *
+     * @since 1.5.0
+     */
+    public static final void compact(final Document input, final Document context, final JsonLdOptions options, final JsonGenerator generator) throws JsonLdError {
+
+        // 4.
+        final JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions(options), false);
+
+        // 6.
+        final JsonValue contextValue = contextValue(context);
+
+        final ActiveContext activeContext = activeContext(input, contextValue, options);
+
+        try {
+            compact(expandedInput, activeContext, contextValue, options, generator);
+            generator.flush();
+
+        } catch (JsonException e) {
+            throw new JsonLdError(JsonLdErrorCode.UNSPECIFIED, e);
+        }
+    }
+
+    private static final Document loadContext(final URI context, final JsonLdOptions options) throws JsonLdError {
 
         if (options.getDocumentLoader() == null) {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document loader is null. Cannot fetch [" + context + "].");
@@ -52,13 +161,13 @@ public final class CompactionProcessor {
         final Document contextDocument = options.getDocumentLoader().loadDocument(context, new DocumentLoaderOptions());
 
         if (contextDocument == null) {
-            throw new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Context[" + context + "] is null.");
+            throw new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Returned context is null [" + context + "].");
         }
 
-        return compact(input, contextDocument, options);
+        return contextDocument;
     }
 
-    public static final JsonObject compact(final URI input, final Document context, final JsonLdOptions options) throws JsonLdError {
+    private static final Document loadInput(final URI input, final JsonLdOptions options) throws JsonLdError {
 
         if (options.getDocumentLoader() == null) {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document loader is null. Cannot fetch [" + input + "].");
@@ -73,32 +182,10 @@ public final class CompactionProcessor {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Returned document is null [" + input + "].");
         }
 
-        return compact(remoteDocument, context, options);
-    }
-
-    public static final JsonObject compact(final Document input, final URI context, final JsonLdOptions options) throws JsonLdError {
-
-        if (options.getDocumentLoader() == null) {
-            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document loader is null. Cannot fetch [" + context + "].");
-        }
-
-        final Document contextDocument = options.getDocumentLoader().loadDocument(context, new DocumentLoaderOptions());
-
-        if (contextDocument == null) {
-            throw new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Returned context is null [" + context + "] is null.");
-        }
-
-        return compact(input, contextDocument, options);
+        return remoteDocument;
     }
 
-    public static final JsonObject compact(final Document input, final Document context, final JsonLdOptions options) throws JsonLdError {
-
-        // 4.
-        final JsonLdOptions expansionOptions = new JsonLdOptions(options);
-        expansionOptions.setOrdered(false);
-        expansionOptions.setExtractAllScripts(false);
-
-        JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions, false);
+    private static final ActiveContext activeContext(final Document input, final JsonValue contextValue, final JsonLdOptions options) throws JsonLdError {
 
         // 5.
         URI contextBase = input.getDocumentUrl();
@@ -107,25 +194,30 @@ public final class CompactionProcessor {
             contextBase = options.getBase();
         }
 
-        // 6.
-        final JsonValue contextValue = context.getJsonContent()
-                .map(ctx -> JsonUtils.flatten(ctx, Keywords.CONTEXT))
-                .orElse(JsonValue.EMPTY_JSON_OBJECT);
-
         // 7.
         final ActiveContext activeContext = new ActiveContext(
                 ProcessingRuntime.of(options)).newContext().create(contextValue, contextBase);
 
         // 8.
-        if (activeContext.getBaseUri() == null) {
+        initBaseUri(activeContext, input.getDocumentUrl(), options);
 
-            if (options.getBase() != null) {
-                activeContext.setBaseUri(options.getBase());
+        return activeContext;
+    }
 
-            } else if (options.isCompactToRelative()) {
-                activeContext.setBaseUri(input.getDocumentUrl());
-            }
-        }
+    /**
+     * Compacts an expanded document using an already processed active context,
+     * i.e. step 9 of the compaction algorithm.
+     *
+     * @param expandedInput an expanded document
+     * @param activeContext a processed context
+     * @param contextValue the context value added to the compacted document
+     * @param options processing options
+     * @return a compacted document
+     * @throws JsonLdError if the compaction has failed
+     *
+     * @since 1.5.0
+     */
+    static final JsonObject compact(final JsonArray expandedInput, final ActiveContext activeContext, final JsonValue contextValue, final JsonLdOptions options) throws JsonLdError {
 
         // 9.
         JsonValue compactedOutput = Compaction
@@ -162,4 +254,122 @@ public final class CompactionProcessor {
 
         return compactedOutput.asJsonObject();
     }
+
+    /**
+     * Writes the compacted document to the given generator, i.e. step 9 of
+     * the compaction algorithm applied to the top-level nodes one by one. The
+     * output is equal to
+     * {@link #compact(JsonArray, ActiveContext, JsonValue, JsonLdOptions)}.
+     *
+     * @param expandedInput an expanded document
+     * @param activeContext a processed context
+     * @param contextValue the context value added to the compacted document
+     * @param options processing options
+     * @param generator receiving the compacted document
+     * @throws JsonLdError if the compaction has failed
+     *
+     * @since 1.5.0
+     */
+    static final void compact(final JsonArray expandedInput, final ActiveContext activeContext, final JsonValue contextValue, final JsonLdOptions options, final JsonGenerator generator) throws JsonLdError {
+
+        // the first node is held back until it is known whether it is the only one
+        JsonValue first = null;
+
+        boolean graph = false;
+
+        // 9.
+        for (final JsonValue item : expandedInput) {
+
+            final JsonValue compactedItem = Compaction
+                                                .with(activeContext)
+                                                .compactArrays(options.isCompactArrays())
+                                                .ordered(options.isOrdered())
+                                                .compact(null, item);
+
+            if (JsonUtils.isNull(compactedItem)) {
+                continue;
+            }
+
+            if (graph) {
+                generator.write(compactedItem);
+                continue;
+            }
+
+            if (first == null && options.isCompactArrays()) {
+                first = compactedItem;
+                continue;
+            }
+
+            // 9.2.
+            generator
+                .writeStartObject()
+                .writeStartArray(activeContext.uriCompaction().vocab(true).compact(Keywords.GRAPH));
+
+            if (first != null) {
+                generator.write(first);
+            }
+
+            generator.write(compactedItem);
+
+            first = null;
+            graph = true;
+        }
+
+        if (graph) {
+            generator.writeEnd();
+
+        } else {
+
+            // 9.1.
+            final JsonObject compactedOutput = first != null ? first.asJsonObject() : JsonValue.EMPTY_JSON_OBJECT;
+
+            if (compactedOutput.isEmpty()) {
+                generator.writeStartObject().writeEnd();
+                return;
+            }
+
+            generator.writeStartObject();
+
+            for (final Map.Entry<String, JsonValue> entry : compactedOutput.entrySet()) {
+                generator.write(entry.getKey(), entry.getValue());
+            }
+        }
+
+        // 9.3.
+        if (JsonUtils.isNotNull(contextValue)
+                && !JsonUtils.isEmptyArray(contextValue)
+                && !JsonUtils.isEmptyObject(contextValue)) {
+            generator.write(Keywords.CONTEXT, contextValue);
+        }
+
+        generator.writeEnd();
+    }
+
+    static final JsonLdOptions expansionOptions(final JsonLdOptions options) {
+
+        final JsonLdOptions expansionOptions = new JsonLdOptions(options);
+        expansionOptions.setOrdered(false);
+        expansionOptions.setExtractAllScripts(false);
+
+        return expansionOptions;
+    }
+
+    static final JsonValue contextValue(final Document context) {
+        return context.getJsonContent()
+                .map(ctx -> JsonUtils.flatten(ctx, Keywords.CONTEXT))
+                .orElse(JsonValue.EMPTY_JSON_OBJECT);
+    }
+
+    static final void initBaseUri(final ActiveContext activeContext, final URI documentUrl, final JsonLdOptions options) {
+
+        if (activeContext.getBaseUri() == null) {
+
+            if (options.getBase() != null) {
+                activeContext.setBaseUri(options.getBase());
+
+            } else if (options.isCompactToRelative()) {
+                activeContext.setBaseUri(documentUrl);
+            }
+        }
+    }
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import java.net.URI;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfQuadConsumer;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+/**
+ * An immutable processor compiled from {@link JsonLdOptions} and an optional
+ * compaction context. The expand context, the compaction context and its
+ * inverse context are processed once, when the processor is created, and are
+ * re-used by every call.
+ * <p>
+ * An instance is thread-safe and is intended to be shared, e.g. by a service
+ * processing many documents with the same configuration. The options are
+ * copied when the processor is created, later changes of the given options
+ * have no effect.
+ * </p>
+ * <p>
+ * The pre-processed contexts are used for documents without a document URL,
+ * or with the document URL equal to the base option. Otherwise the contexts
+ * are resolved against the document URL, as {@link ExpansionProcessor} and
+ * {@link CompactionProcessor} do.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class CompiledProcessor {
+
+    private final JsonLdOptions options;
+
+    private final JsonLdOptions expansionOptions;
+
+    // an initial context with the expand context applied
+    private final ActiveContext expandContext;
+
+    // a processed compaction context, or null
+    private final ActiveContext compactContext;
+
+    private final JsonValue compactContextValue;
+
+    private CompiledProcessor(final JsonLdOptions options, final JsonLdOptions expansionOptions, final ActiveContext expandContext, final ActiveContext compactContext, final JsonValue compactContextValue) {
+        this.options = options;
+        this.expansionOptions = expansionOptions;
+        this.expandContext = expandContext;
+        this.compactContext = compactContext;
+        this.compactContextValue = compactContextValue;
+    }
+
+    /**
+     * Creates a new processor supporting expansion and <code>toRdf</code>.
+     *
+     * @param options processing options, including an optional expand context
+     * @return a new processor
+     * @throws JsonLdError if the expand context processing has failed
+     */
+    public static final CompiledProcessor of(final JsonLdOptions options) throws JsonLdError {
+        return of(options, null);
+    }
+
+    /**
+     * Creates a new processor supporting expansion, compaction and
+     * <code>toRdf</code>.
+     *
+     * @param options processing options, including an optional expand context
+     * @param context a context used to compact documents, or <code>null</code>
+     * @return a new processor
+     * @throws JsonLdError if the expand or compaction context processing has
+     *                     failed
+     */
+    public static final CompiledProcessor of(final JsonLdOptions options, final Document context) throws JsonLdError {
+
+        final JsonLdOptions copy = new JsonLdOptions(options);
+
+        final ActiveContext expandContext = ExpansionProcessor.initialContext(copy.getBase(), copy.getBase(), copy);
+
+        // build the memos once, copies share them
+        warmUp(expandContext);
+
+        if (context == null) {
+            return new CompiledProcessor(copy, null, expandContext, null, null);
+        }
+
+        final JsonLdOptions expansionOptions = CompactionProcessor.expansionOptions(copy);
+
+        final JsonValue contextValue = CompactionProcessor.contextValue(context);
+
+        final ActiveContext compactContext = new ActiveContext(
+                ProcessingRuntime.of(copy)).newContext().create(contextValue, copy.getBase());
+
+        CompactionProcessor.initBaseUri(compactContext, null, copy);
+
+        // build the inverse context, the prefix index and the memos once, copies share them
+        compactContext.createInverseContext();
+        compactContext.getPrefixIndex();
+        warmUp(compactContext);
+
+        return new CompiledProcessor(copy, expansionOptions, expandContext, compactContext, contextValue);
+    }
+
+    /**
+     * Expands the given document.
+     *
+     * @param input a document to expand
+     * @return an expanded document
+     * @throws JsonLdError if the expansion has failed
+     */
+    public JsonArray expand(final Document input) throws JsonLdError {
+        return expand(input, options);
+    }
+
+    /**
+     * Compacts the given document using the compaction context the processor
+     * has been created with.
+     *
+     * @param input a document to compact
+     * @return a compacted document
+     * @throws JsonLdError if the compaction has failed
+     * @throws IllegalStateException if the processor has been created without
+     *                               a compaction context
+     */
+    public JsonObject compact(final Document input) throws JsonLdError {
+
+        if (compactContext == null) {
+            throw new IllegalStateException("The processor has been created without a compaction context.");
+        }
+
+        final JsonArray expandedInput = expand(input, expansionOptions);
+
+        final ActiveContext activeContext;
+
+        if (isCompiledBase(input)) {
+            activeContext = new ActiveContext(compactContext, ProcessingRuntime.of(options));
+
+        } else {
+            activeContext = new ActiveContext(
+                    ProcessingRuntime.of(options)).newContext().create(compactContextValue, input.getDocumentUrl());
+
+            CompactionProcessor.initBaseUri(activeContext, input.getDocumentUrl(), options);
+        }
+
+        return CompactionProcessor.compact(expandedInput, activeContext, compactContextValue, options);
+    }
+
+    /**
+     * Transforms the given document into {@link RdfDataset}.
+     *
+     * @param input a document to transform
+     * @return a dataset
+     * @throws JsonLdError if the transformation has failed
+     */
+    public RdfDataset toRdf(final Document input) throws JsonLdError {
+        return ToRdfProcessor.toRdf(ToRdfProcessor.toNodeMap(expand(input, options)), options);
+    }
+
+    /**
+     * Emits <code>N-Quads</code> to the given consumer without building
+     * {@link RdfDataset}.
+     *
+     * @param input a document to transform
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws JsonLdError if the transformation has failed
+     */
+    public void toRdf(final Document input, final RdfQuadConsumer consumer) throws JsonLdError {
+        ToRdfProcessor.toRdf(ToRdfProcessor.toNodeMap(expand(input, options)), options, consumer);
+    }
+
+    private JsonArray expand(final Document input, final JsonLdOptions expansionOptions) throws JsonLdError {
+
+        if (input == null) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "RemoteDocument is null.");
+        }
+
+        if (!isCompiledBase(input)) {
+            return ExpansionProcessor.expand(input, expansionOptions, false);
+        }
+
+        return ExpansionProcessor.expand(
+                    input,
+                    new ActiveContext(expandContext, ProcessingRuntime.of(expansionOptions)),
+                    options.getBase(),
+                    expansionOptions.isOrdered(),
+                    false);
+    }
+
+    private static final void warmUp(final ActiveContext context) {
+        context.getBase();
+        context.getUriExpansionMemo();
+        context.getUriCompactionMemo();
+    }
+
+    // the pre-processed contexts have been resolved against the base option
+    private boolean isCompiledBase(final Document input) {
+        return input.getDocumentUrl() == null
+                || input.getDocumentUrl().equals(options.getBase());
+    }
+}
@@ -30,9 +30,11 @@ import com.apicatalog.jsonld.lang.Keywords;
 import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
 
 import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  *
@@ -45,6 +47,50 @@ public final class ExpansionProcessor {
     }
 
     public static final JsonArray expand(final URI input, final JsonLdOptions options) throws JsonLdError {
+        return expand(load(input, options), options, false);
+    }
+
+    /**
+     * Writes the expanded document to the given generator, each top-level node
+     * as soon as it is expanded, without building the expanded document.
+     *
+     * @param input a document to expand
+     * @param options processing options
+     * @param generator receiving the expanded document, not closed
+     * @throws JsonLdError if the expansion has failed
+     *
+     * @since 1.5.0
+     */
+    public static final void expand(final URI input, final JsonLdOptions options, final JsonGenerator generator) throws JsonLdError {
+        expand(load(input, options), options, generator);
+    }
+
+    /**
+     * Writes the expanded document to the given generator, each top-level node
+     * as soon as it is expanded, without building the expanded document.
+     *
+     * @param input a document to expand
+     * @param options processing options
+     * @param generator receiving the expanded document, not closed
+     * @throws JsonLdError if the expansion has failed
+     *
+     * @since 1.5.0
+     */
+    public static final void expand(final Document input, final JsonLdOptions options, final JsonGenerator generator) throws JsonLdError {
+        try {
+            generator.writeStartArray();
+
+            StreamingProcessor.expand(input, options, generator::write);
+
+            generator.writeEnd();
+            generator.flush();
+
+        } catch (JsonException e) {
+            throw new JsonLdError(JsonLdErrorCode.UNSPECIFIED, e);
+        }
+    }
+
+    private static final Document load(final URI input, final JsonLdOptions options) throws JsonLdError {
 
         if (options.getDocumentLoader() == null) {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document loader is null. Cannot fetch [" + input + "].");
@@ -59,7 +105,7 @@ public final class ExpansionProcessor {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED);
         }
 
-        return expand(remoteDocument, options, false);
+        return remoteDocument;
     }
 
     public static final JsonArray expand(Document input, final JsonLdOptions options, boolean frameExpansion) throws JsonLdError {
@@ -68,10 +114,6 @@ public final class ExpansionProcessor {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "RemoteDocument is null.");
         }
 
-        final JsonStructure jsonStructure = input
-                                                .getJsonContent()
-                                                .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document is not pased JSON."));
-
         // 5. Initialize a new empty active context. The base IRI and
         // original base URL of the active context is set to the documentUrl
         // from remote document, if available; otherwise to the base option from
@@ -93,34 +135,45 @@ public final class ExpansionProcessor {
             baseUri = options.getBase();
         }
 
-        ActiveContext activeContext = new ActiveContext(baseUri, baseUrl, ProcessingRuntime.of(options));
+        final ActiveContext activeContext = initialContext(baseUri, baseUrl, options);
 
-        // 6. If the expandContext option in options is set, update the active context
-        // using the Context Processing algorithm, passing the expandContext as
-        // local context and the original base URL from active context as base URL.
-        // If expandContext is a map having an @context entry, pass that entry's value
-        // instead for local context.
-        if (options.getExpandContext() != null) {
+        return expand(input, activeContext, baseUrl, options.isOrdered(), frameExpansion);
+    }
 
-            final Optional<JsonStructure> contextValue = options.getExpandContext().getJsonContent();
+    /**
+     * Expands the given document using an already initialized active context,
+     * i.e. steps 7 and 8 of the expansion algorithm.
+     *
+     * @param input a document to expand
+     * @param activeContext an initial active context, with the expand context applied
+     * @param baseUrl the original base URL
+     * @param ordered if <code>true</code> then keys are processed in lexicographical order
+     * @param frameExpansion if <code>true</code> then a frame is expanded
+     * @return an expanded document
+     * @throws JsonLdError if the expansion has failed
+     *
+     * @since 1.5.0
+     */
+    static final JsonArray expand(final Document input, final ActiveContext activeContext, final URI baseUrl, final boolean ordered, final boolean frameExpansion) throws JsonLdError {
 
-            if (contextValue.isPresent()) {
-                activeContext = updateContext(activeContext, contextValue.get(), baseUrl);
-            }
-        }
+        final JsonStructure jsonStructure = input
+                                                .getJsonContent()
+                                                .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document is not pased JSON."));
+
+        ActiveContext context = activeContext;
 
         // 7.
         if (input.getContextUrl() != null) {
-            activeContext = activeContext
-                                .newContext()
-                                .create(JsonProvider.instance().createValue(input.getContextUrl().toString()), input.getContextUrl());
+            context = context
+                        .newContext()
+                        .create(JsonProvider.instance().createValue(input.getContextUrl().toString()), input.getContextUrl());
         }
 
         // 8.
         JsonValue expanded = Expansion
-                                .with(activeContext, jsonStructure, null, baseUrl)
+                                .with(context, jsonStructure, null, baseUrl)
                                 .frameExpansion(frameExpansion)
-                                .ordered(options.isOrdered())
+                                .ordered(ordered)
                                 .compute();
 
         // 8.1
@@ -142,6 +195,39 @@ public final class ExpansionProcessor {
         return JsonUtils.toJsonArray(expanded);
     }
 
+    /**
+     * Creates an initial active context with the expand context, if set,
+     * applied, i.e. steps 5 and 6 of the expansion algorithm.
+     *
+     * @param baseUri the base IRI
+     * @param baseUrl the original base URL
+     * @param options processing options
+     * @return an initial active context
+     * @throws JsonLdError if the expand context processing has failed
+     *
+     * @since 1.5.0
+     */
+    static final ActiveContext initialContext(final URI baseUri, final URI baseUrl, final JsonLdOptions options) throws JsonLdError {
+
+        ActiveContext activeContext = new ActiveContext(baseUri, baseUrl, ProcessingRuntime.of(options));
+
+        // 6. If the expandContext option in options is set, update the active context
+        // using the Context Processing algorithm, passing the expandContext as
+        // local context and the original base URL from active context as base URL.
+        // If expandContext is a map having an @context entry, pass that entry's value
+        // instead for local context.
+        if (options.getExpandContext() != null) {
+
+            final Optional<JsonStructure> contextValue = options.getExpandContext().getJsonContent();
+
+            if (contextValue.isPresent()) {
+                activeContext = updateContext(activeContext, contextValue.get(), baseUrl);
+            }
+        }
+
+        return activeContext;
+    }
+
     private static final ActiveContext updateContext(final ActiveContext activeContext, final JsonValue expandedContext, final URI baseUrl) throws JsonLdError {
 
       if (JsonUtils.isArray(expandedContext)) {
@@ -99,7 +99,11 @@ public final class FlatteningProcessor {
 
         // 5.
         // 6.
-        JsonStructure flattenedOutput = Flattening.with(expandedInput).ordered(options.isOrdered()).flatten();
+        JsonStructure flattenedOutput = Flattening
+                                            .with(expandedInput)
+                                            .ordered(options.isOrdered())
+                                            .parallel(options.getExecutor(), options.getParallelThreshold())
+                                            .flatten();
 
         // 6.1.
         if (context != null) {
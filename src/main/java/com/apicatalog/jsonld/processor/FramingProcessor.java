@@ -94,39 +94,20 @@ public final class FramingProcessor {
 
     public static final JsonObject frame(final Document input, final Document frame, final JsonLdOptions options) throws JsonLdError {
 
-        if (frame == null) {
-            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Frame or Frame.Document is null.");
-        }
-
-        final JsonStructure frameStructure = frame
-                .getJsonContent()
-                .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Frame is not JSON object but null."));
-
-        if (JsonUtils.isNotObject(frameStructure)) {
-            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Frame is not JSON object but [" + frameStructure + "].");
-        }
-
-        final JsonObject frameObject = frameStructure.asJsonObject();
+        final JsonObject frameObject = frameObject(frame);
 
         // 4.
-        final JsonLdOptions expansionOptions = new JsonLdOptions(options);
-        expansionOptions.setOrdered(false);
+        final JsonLdOptions expansionOptions = expansionOptions(options);
 
-        JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions, false);
+        final JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions, false);
 
         // 7.
-        JsonArray expandedFrame = ExpansionProcessor.expand(frame, expansionOptions, true);
-
-        JsonValue context = JsonValue.EMPTY_JSON_OBJECT;
+        final JsonArray expandedFrame = ExpansionProcessor.expand(frame, expansionOptions, true);
 
-        if (frameObject.containsKey(Keywords.CONTEXT)) {
-            context = frameObject.get(Keywords.CONTEXT);
-        }
+        final JsonValue context = contextValue(frameObject);
 
         // 9.
-        final URI contextBase = (frame.getContextUrl() != null)
-                ? frame.getDocumentUrl()
-                : options.getBase();
+        final URI contextBase = contextBase(frame, options);
 
         // 10-11.
         final ActiveContext activeContext = new ActiveContext(input.getDocumentUrl(), input.getDocumentUrl(), ProcessingRuntime.of(options))
@@ -136,13 +117,28 @@ public final class FramingProcessor {
         final String graphKey = activeContext.uriCompaction().vocab(true).compact(Keywords.GRAPH);
 
         // 13.
-        boolean frameDefault = false;
-        for (final String key : frameObject.keySet()) {
-            if (key.equals(graphKey)) {
-                frameDefault = true;
-                break;
-            }
-        }
+        final boolean frameDefault = frameObject.containsKey(graphKey);
+
+        return frame(expandedInput, Frame.of(expandedFrame), activeContext, context, graphKey, frameDefault, options);
+    }
+
+    /**
+     * Frames an expanded document using an already expanded frame and
+     * processed frame context, i.e. steps 14 - 21 of the framing algorithm.
+     *
+     * @param expandedInput an expanded document
+     * @param frame an expanded frame
+     * @param activeContext a processed frame context
+     * @param context the frame context value added to the framed document
+     * @param graphKey <code>@graph</code> compacted by the frame context
+     * @param frameDefault if <code>true</code> then the default graph is framed
+     * @param options processing options
+     * @return a framed document
+     * @throws JsonLdError if the framing has failed
+     *
+     * @since 1.5.0
+     */
+    static final JsonObject frame(final JsonArray expandedInput, final Frame frame, final ActiveContext activeContext, final JsonValue context, final String graphKey, final boolean frameDefault, final JsonLdOptions options) throws JsonLdError {
 
         // 14.
         final FramingState state = new FramingState();
@@ -169,7 +165,7 @@ public final class FramingProcessor {
         // 16.
         Framing.with(state,
                 new ArrayList<>(state.getGraphMap().subjects(state.getGraphName())),
-                Frame.of(expandedFrame),
+                frame,
                 resultMap,
                 null)
                 .ordered(options.isOrdered())
@@ -246,6 +242,43 @@ public final class FramingProcessor {
         return compactedResults.asJsonObject();
     }
 
+    static final JsonObject frameObject(final Document frame) throws JsonLdError {
+
+        if (frame == null) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Frame or Frame.Document is null.");
+        }
+
+        final JsonStructure frameStructure = frame
+                .getJsonContent()
+                .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Frame is not JSON object but null."));
+
+        if (JsonUtils.isNotObject(frameStructure)) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Frame is not JSON object but [" + frameStructure + "].");
+        }
+
+        return frameStructure.asJsonObject();
+    }
+
+    static final JsonLdOptions expansionOptions(final JsonLdOptions options) {
+
+        final JsonLdOptions expansionOptions = new JsonLdOptions(options);
+        expansionOptions.setOrdered(false);
+
+        return expansionOptions;
+    }
+
+    static final JsonValue contextValue(final JsonObject frameObject) {
+        return frameObject.containsKey(Keywords.CONTEXT)
+                ? frameObject.get(Keywords.CONTEXT)
+                : JsonValue.EMPTY_JSON_OBJECT;
+    }
+
+    static final URI contextBase(final Document frame, final JsonLdOptions options) {
+        return (frame.getContextUrl() != null)
+                ? frame.getDocumentUrl()
+                : options.getBase();
+    }
+
     public static final JsonObject frame(final URI input, final URI frame, final JsonLdOptions options) throws JsonLdError {
         return frame(getDocument(input, options), getDocument(frame, options), options);
     }
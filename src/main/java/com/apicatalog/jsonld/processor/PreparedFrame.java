@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import java.net.URI;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.framing.Frame;
+import com.apicatalog.jsonld.lang.Keywords;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+/**
+ * An immutable frame prepared once and re-used to frame many documents. The
+ * frame is expanded and its context is processed when the frame is prepared,
+ * framing a document then expands the document and runs the framing
+ * algorithm only.
+ * <p>
+ * An instance is thread-safe and is intended to be shared, e.g. by a service
+ * framing many documents with a fixed set of frames. The options are copied
+ * when the frame is prepared, later changes of the given options have no
+ * effect.
+ * </p>
+ * <p>
+ * The processed frame context is used for documents without a document URL.
+ * Otherwise the context is processed again with the document URL as the base
+ * IRI, as {@link FramingProcessor} does.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class PreparedFrame {
+
+    private final JsonLdOptions options;
+
+    private final JsonLdOptions expansionOptions;
+
+    private final JsonObject frameObject;
+
+    private final Frame frame;
+
+    // the frame context value and its base URL
+    private final JsonValue context;
+    private final URI contextBase;
+
+    // the frame context processed for documents without a document URL
+    private final ActiveContext activeContext;
+
+    private final String graphKey;
+
+    private final boolean frameDefault;
+
+    private PreparedFrame(final JsonLdOptions options, final JsonLdOptions expansionOptions, final JsonObject frameObject, final Frame frame, final JsonValue context, final URI contextBase, final ActiveContext activeContext, final String graphKey) {
+        this.options = options;
+        this.expansionOptions = expansionOptions;
+        this.frameObject = frameObject;
+        this.frame = frame;
+        this.context = context;
+        this.contextBase = contextBase;
+        this.activeContext = activeContext;
+        this.graphKey = graphKey;
+        this.frameDefault = frameObject.containsKey(graphKey);
+    }
+
+    /**
+     * Prepares the given frame.
+     *
+     * @param frame a frame document
+     * @param options processing options
+     * @return a new prepared frame
+     * @throws JsonLdError if the frame expansion or the frame context
+     *                     processing has failed
+     */
+    public static final PreparedFrame of(final Document frame, final JsonLdOptions options) throws JsonLdError {
+
+        final JsonLdOptions copy = new JsonLdOptions(options);
+
+        final JsonObject frameObject = FramingProcessor.frameObject(frame);
+
+        final JsonLdOptions expansionOptions = FramingProcessor.expansionOptions(copy);
+
+        // 7.
+        final JsonArray expandedFrame = ExpansionProcessor.expand(frame, expansionOptions, true);
+
+        final JsonValue context = FramingProcessor.contextValue(frameObject);
+
+        // 9.
+        final URI contextBase = FramingProcessor.contextBase(frame, copy);
+
+        // 10-11.
+        final ActiveContext activeContext = new ActiveContext(null, null, ProcessingRuntime.of(copy))
+                .newContext()
+                .create(context, contextBase);
+
+        // build the shared structures once, copies share them
+        activeContext.createInverseContext();
+        activeContext.getPrefixIndex();
+        activeContext.getBase();
+        activeContext.getUriExpansionMemo();
+        activeContext.getUriCompactionMemo();
+
+        return new PreparedFrame(
+                    copy,
+                    expansionOptions,
+                    frameObject,
+                    Frame.of(expandedFrame),
+                    context,
+                    contextBase,
+                    activeContext,
+                    activeContext.uriCompaction().vocab(true).compact(Keywords.GRAPH));
+    }
+
+    /**
+     * Frames the given document.
+     *
+     * @param input a document to frame
+     * @return a framed document
+     * @throws JsonLdError if the framing has failed
+     */
+    public JsonObject frame(final Document input) throws JsonLdError {
+
+        if (input == null) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "RemoteDocument is null.");
+        }
+
+        // 4.
+        final JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions, false);
+
+        if (input.getDocumentUrl() == null) {
+            return FramingProcessor.frame(
+                        expandedInput,
+                        frame,
+                        new ActiveContext(activeContext, ProcessingRuntime.of(options)),
+                        context,
+                        graphKey,
+                        frameDefault,
+                        options);
+        }
+
+        // 10-11.
+        final ActiveContext documentContext = new ActiveContext(input.getDocumentUrl(), input.getDocumentUrl(), ProcessingRuntime.of(options))
+                .newContext()
+                .create(context, contextBase);
+
+        final String documentGraphKey = documentContext.uriCompaction().vocab(true).compact(Keywords.GRAPH);
+
+        return FramingProcessor.frame(
+                    expandedInput,
+                    frame,
+                    documentContext,
+                    context,
+                    documentGraphKey,
+                    frameObject.containsKey(documentGraphKey),
+                    options);
+    }
+}
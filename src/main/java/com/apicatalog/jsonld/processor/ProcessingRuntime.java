@@ -1,8 +1,12 @@
 package com.apicatalog.jsonld.processor;
 
+import java.util.concurrent.Executor;
+
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdVersion;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.context.ActiveContextKey;
 import com.apicatalog.jsonld.context.cache.Cache;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.loader.DocumentLoader;
@@ -18,8 +22,16 @@ public class ProcessingRuntime {
 
     protected final JsonLdOptions options;
 
+    // a runtime of a task running in parallel with other tasks
+    protected final boolean forked;
+
     protected ProcessingRuntime(JsonLdOptions options) {
+        this(options, false);
+    }
+
+    protected ProcessingRuntime(JsonLdOptions options, boolean forked) {
         this.options = options;
+        this.forked = forked;
     }
 
     public static ProcessingRuntime of(JsonLdOptions options) {
@@ -48,6 +60,40 @@ public class ProcessingRuntime {
      */
     public void resetTicker() {/* NOP does nothing if timeout is not set */}
 
+    /**
+     * Creates a runtime for a task processing a part of the input in parallel
+     * with other tasks. A forked runtime keeps the remaining timeout, if set,
+     * and does not fork again.
+     *
+     * @return a new runtime
+     *
+     * @since 1.5.0
+     */
+    public ProcessingRuntime fork() {
+        return new ProcessingRuntime(options, true);
+    }
+
+    /**
+     * An executor used to process large documents in parallel.
+     *
+     * @return the executor, or <code>null</code> if the processing is
+     *         sequential or the runtime has been forked
+     *
+     * @since 1.5.0
+     */
+    public Executor getExecutor() {
+        return forked ? null : options.getExecutor();
+    }
+
+    /**
+     * @return the minimal number of array members processed in parallel
+     *
+     * @since 1.5.0
+     */
+    public int getParallelThreshold() {
+        return options.getParallelThreshold();
+    }
+
     public boolean isUriValidation() {
         return options.isUriValidation();
     }
@@ -72,6 +118,10 @@ public class ProcessingRuntime {
         return options.getDocumentCache();
     }
 
+    public Cache<ActiveContextKey, ActiveContext> getActiveContextCache() {
+        return options.getActiveContextCache();
+    }
+
     public boolean isRdfStar() {
         return options.isRdfStar();
     }
@@ -0,0 +1,449 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.expansion.Expansion;
+import com.apicatalog.jsonld.flattening.BlankNodeIdGenerator;
+import com.apicatalog.jsonld.flattening.NodeMap;
+import com.apicatalog.jsonld.flattening.NodeMapBuilder;
+import com.apicatalog.jsonld.json.JsonProvider;
+import com.apicatalog.jsonld.json.JsonUtils;
+import com.apicatalog.jsonld.lang.Keywords;
+import com.apicatalog.rdf.RdfQuadConsumer;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * Expands a document read by {@link JsonParser} incrementally, one element of
+ * a top-level array or of a top-level <code>@graph</code> at a time, without
+ * reading the whole document into memory.
+ * <p>
+ * A top-level <code>@context</code> is processed first and then each element
+ * is expanded, and passed to a consumer, as soon as it is parsed. The
+ * elements are emitted in the same order as {@link ExpansionProcessor}
+ * returns them.
+ * </p>
+ * <p>
+ * A top-level object is streamed only if its <code>@graph</code> entry, or
+ * an alias, is preceded by <code>@context</code> and no other entry. An
+ * object starting with other entries, or with <code>@graph</code> which a
+ * following <code>@context</code> could change, e.g. a compacted document,
+ * is read into memory and expanded as a whole. Entries following streamed
+ * <code>@graph</code> which the expansion ignores are skipped, other entries
+ * cannot be applied to the elements already emitted and are reported as an
+ * error. A document already read into memory is expanded as a whole in such
+ * case.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class StreamingProcessor {
+
+    private StreamingProcessor() {
+    }
+
+    /**
+     * Expands JSON-LD document provided by the given stream and passes each
+     * expanded top-level node to the consumer.
+     *
+     * @param is providing JSON content
+     * @param options processing options
+     * @param consumer receiving expanded nodes
+     * @throws JsonLdError if the expansion has failed
+     */
+    public static final void expand(final InputStream is, final JsonLdOptions options, final Consumer<JsonObject> consumer) throws JsonLdError {
+
+        if (is == null) {
+            throw new IllegalArgumentException("InputStream cannot be null.");
+        }
+
+        try (final JsonParser parser = JsonProvider.instance().createParser(is)) {
+            expand(parser, options, consumer);
+
+        } catch (JsonException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
+
+    /**
+     * Expands JSON-LD document read by the given parser and passes each
+     * expanded top-level node to the consumer. The parser is not closed.
+     *
+     * @param parser positioned before the top-level value
+     * @param options processing options
+     * @param consumer receiving expanded nodes
+     * @throws JsonLdError if the expansion has failed
+     */
+    public static final void expand(final JsonParser parser, final JsonLdOptions options, final Consumer<JsonObject> consumer) throws JsonLdError {
+        final ActiveContext activeContext = ExpansionProcessor.initialContext(options.getBase(), options.getBase(), options);
+
+        process(parser, activeContext, options.getBase(), options.isOrdered(), consumer::accept);
+    }
+
+    /**
+     * Expands the given document and passes each expanded top-level node to
+     * the consumer as soon as it is expanded, without building the expanded
+     * document.
+     *
+     * @param input a document to expand
+     * @param options processing options
+     * @param consumer receiving expanded nodes
+     * @throws JsonLdError if the expansion has failed
+     *
+     * @see ExpansionProcessor#expand(Document, JsonLdOptions, boolean)
+     */
+    public static final void expand(final Document input, final JsonLdOptions options, final Consumer<JsonObject> consumer) throws JsonLdError {
+
+        if (input == null) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "RemoteDocument is null.");
+        }
+
+        final JsonStructure jsonStructure = input
+                                                .getJsonContent()
+                                                .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document is not pased JSON."));
+
+        // the base IRI and the original base URL as ExpansionProcessor sets them
+        URI baseUri = input.getDocumentUrl();
+        URI baseUrl = input.getDocumentUrl();
+
+        if (baseUrl == null) {
+            baseUrl = options.getBase();
+        }
+        if (options.getBase() != null) {
+            baseUri = options.getBase();
+        }
+
+        ActiveContext activeContext = ExpansionProcessor.initialContext(baseUri, baseUrl, options);
+
+        if (input.getContextUrl() != null) {
+            activeContext = activeContext
+                                .newContext()
+                                .create(JsonProvider.instance().createValue(input.getContextUrl().toString()), input.getContextUrl());
+        }
+
+        new Stream(activeContext, baseUrl, options.isOrdered(), consumer::accept).structure(jsonStructure);
+    }
+
+    /**
+     * Emits <code>N-Quads</code> of JSON-LD document provided by the given
+     * stream to the consumer, node by node, without building a node map of the
+     * whole document.
+     *
+     * @param is providing JSON content
+     * @param options processing options
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws JsonLdError if the transformation has failed
+     *
+     * @see ToRdfProcessor#toRdf(Document, JsonLdOptions, RdfQuadConsumer)
+     */
+    public static final void toRdf(final InputStream is, final JsonLdOptions options, final RdfQuadConsumer consumer) throws JsonLdError {
+
+        if (is == null) {
+            throw new IllegalArgumentException("InputStream cannot be null.");
+        }
+
+        try (final JsonParser parser = JsonProvider.instance().createParser(is)) {
+            toRdf(parser, options, consumer);
+
+        } catch (JsonException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
+
+    /**
+     * Emits <code>N-Quads</code> of JSON-LD document read by the given parser
+     * to the consumer, node by node, without building a node map of the whole
+     * document. The parser is not closed.
+     * <p>
+     * Blank node identifiers are generated consistently across the nodes,
+     * hence the identifiers seen so far are kept in memory. A node described
+     * by several top-level elements is emitted by each of them, the same
+     * <code>N-Quad</code> can be emitted more than once, see
+     * {@link RdfQuadConsumer#distinct(RdfQuadConsumer)}.
+     * </p>
+     *
+     * @param parser positioned before the top-level value
+     * @param options processing options
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws JsonLdError if the transformation has failed
+     */
+    public static final void toRdf(final JsonParser parser, final JsonLdOptions options, final RdfQuadConsumer consumer) throws JsonLdError {
+
+        final BlankNodeIdGenerator generator = new BlankNodeIdGenerator();
+
+        final ActiveContext activeContext = ExpansionProcessor.initialContext(options.getBase(), options.getBase(), options);
+
+        process(parser, activeContext, options.getBase(), options.isOrdered(), node -> ToRdfProcessor.toRdf(
+                                                                                    NodeMapBuilder.with(node, new NodeMap(generator)).build(),
+                                                                                    options,
+                                                                                    consumer));
+    }
+
+    private static final void process(final JsonParser parser, final ActiveContext activeContext, final URI baseUrl, final boolean ordered, final NodeConsumer consumer) throws JsonLdError {
+
+        try {
+            if (!parser.hasNext()) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Nothing to read. Provided document is empty.");
+            }
+
+            final Event event = parser.next();
+
+            if (event == Event.START_ARRAY) {
+                new Stream(activeContext, baseUrl, ordered, consumer).array(parser, activeContext, null);
+
+            } else if (event == Event.START_OBJECT) {
+                new Stream(activeContext, baseUrl, ordered, consumer).object(parser);
+
+            } else {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "JSON document's top level element must be JSON array or object.");
+            }
+
+        } catch (JsonException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface NodeConsumer {
+
+        void accept(JsonObject node) throws JsonLdError;
+    }
+
+    private static final class Stream {
+
+        final ActiveContext initialContext;
+        final URI baseUrl;
+        final boolean ordered;
+        final NodeConsumer consumer;
+
+        Stream(final ActiveContext initialContext, final URI baseUrl, final boolean ordered, final NodeConsumer consumer) {
+            this.initialContext = initialContext;
+            this.baseUrl = baseUrl;
+            this.ordered = ordered;
+            this.consumer = consumer;
+        }
+
+        // expands the elements of an array the parser has just started, see ArrayExpansion
+        void array(final JsonParser parser, final ActiveContext activeContext, final String activeProperty) throws JsonLdError {
+
+            while (parser.next() != Event.END_ARRAY) {
+                expand(activeContext, parser.getValue(), activeProperty);
+            }
+        }
+
+        // expands an object the parser has just started
+        void object(final JsonParser parser) throws JsonLdError {
+
+            ActiveContext activeContext = initialContext;
+
+            JsonValue localContext = null;
+
+            boolean streamed = false;
+
+            // entries read into memory if the object cannot be streamed
+            JsonObjectBuilder entries = null;
+
+            Event event;
+
+            while ((event = parser.next()) != Event.END_OBJECT) {
+
+                if (event != Event.KEY_NAME) {
+                    throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Unexpected JSON event " + event + ".");
+                }
+
+                final String key = parser.getString();
+
+                final Event valueEvent = parser.next();
+
+                if (streamed) {
+
+                    // an entry changing the elements already emitted
+                    if (!isDropped(activeContext, key)) {
+                        throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED,
+                                "An entry [" + key + "] following " + Keywords.GRAPH + " cannot be streamed.");
+                    }
+
+                    parser.getValue();
+                    continue;
+                }
+
+                if (entries != null) {
+                    entries.add(key, parser.getValue());
+                    continue;
+                }
+
+                if (Keywords.CONTEXT.equals(key)) {
+                    localContext = parser.getValue();
+                    activeContext = activeContext.newContext().create(localContext, baseUrl);
+                    continue;
+                }
+
+                // a @context following @graph would change the elements
+                if (localContext != null && isGraph(activeContext, key)) {
+
+                    if (valueEvent == Event.START_ARRAY) {
+                        array(parser, activeContext, Keywords.GRAPH);
+
+                    } else {
+                        expand(activeContext, parser.getValue(), Keywords.GRAPH);
+                    }
+
+                    streamed = true;
+                    continue;
+                }
+
+                entries = JsonProvider.instance().createObjectBuilder();
+
+                if (localContext != null) {
+                    entries.add(Keywords.CONTEXT, localContext);
+                }
+                entries.add(key, parser.getValue());
+            }
+
+            if (streamed) {
+                return;
+            }
+
+            if (entries == null) {
+                // an empty object or @context only
+                return;
+            }
+
+            emitAll(entries.build());
+        }
+
+        // expands a document already read into memory
+        void structure(final JsonStructure json) throws JsonLdError {
+
+            if (JsonUtils.isArray(json)) {
+                for (final JsonValue item : json.asJsonArray()) {
+                    expand(initialContext, item, null);
+                }
+                return;
+            }
+
+            final JsonObject object = json.asJsonObject();
+
+            ActiveContext activeContext = initialContext;
+
+            if (object.containsKey(Keywords.CONTEXT)) {
+                activeContext = activeContext.newContext().create(object.get(Keywords.CONTEXT), baseUrl);
+            }
+
+            JsonValue graph = null;
+
+            for (final Map.Entry<String, JsonValue> entry : object.entrySet()) {
+
+                if (Keywords.CONTEXT.equals(entry.getKey())) {
+                    continue;
+                }
+
+                if (graph != null || !isGraph(activeContext, entry.getKey())) {
+                    graph = null;
+                    break;
+                }
+
+                graph = entry.getValue();
+            }
+
+            if (graph == null) {
+                emitAll(object);
+
+            } else if (JsonUtils.isArray(graph)) {
+                for (final JsonValue item : graph.asJsonArray()) {
+                    expand(activeContext, item, Keywords.GRAPH);
+                }
+
+            } else {
+                expand(activeContext, graph, Keywords.GRAPH);
+            }
+        }
+
+        void expand(final ActiveContext activeContext, final JsonValue element, final String activeProperty) throws JsonLdError {
+
+            activeContext.runtime().tick();
+
+            emit(Expansion
+                    .with(activeContext, element, activeProperty, baseUrl)
+                    .ordered(ordered)
+                    .compute());
+        }
+
+        // expands the whole object
+        void emitAll(final JsonObject object) throws JsonLdError {
+            for (final JsonValue node : ExpansionProcessor.expand(
+                                            JsonDocument.of(object),
+                                            initialContext,
+                                            baseUrl,
+                                            ordered,
+                                            false)) {
+                consumer.accept(node.asJsonObject());
+            }
+        }
+
+        // an entry ignored by the expansion, see ObjectExpansion1314 step 13.3.
+        boolean isDropped(final ActiveContext activeContext, final String key) throws JsonLdError {
+
+            final String expandedProperty = activeContext
+                                            .uriExpansion()
+                                            .documentRelative(false)
+                                            .vocab(true)
+                                            .expand(key);
+
+            return expandedProperty == null
+                    || (!expandedProperty.contains(":") && !Keywords.contains(expandedProperty));
+        }
+
+        boolean isGraph(final ActiveContext activeContext, final String key) throws JsonLdError {
+            return Keywords.GRAPH.equals(activeContext
+                                            .uriExpansion()
+                                            .documentRelative(false)
+                                            .vocab(true)
+                                            .expand(key));
+        }
+
+        void emit(final JsonValue expanded) throws JsonLdError {
+
+            if (JsonUtils.isArray(expanded)) {
+                for (final JsonValue item : expanded.asJsonArray()) {
+                    if (JsonUtils.isNotNull(item)) {
+                        consumer.accept(item.asJsonObject());
+                    }
+                }
+
+            } else if (JsonUtils.isNotNull(expanded)) {
+                consumer.accept(expanded.asJsonObject());
+            }
+        }
+    }
+}
@@ -13,11 +13,20 @@ class Ticker extends ProcessingRuntime {
     Duration ttl;
 
     Ticker(JsonLdOptions options) {
-        super(options);
-        this.ttl = options.getTimeout();
+        this(options, options.getTimeout(), false);
+    }
+
+    Ticker(JsonLdOptions options, Duration ttl, boolean forked) {
+        super(options, forked);
+        this.ttl = ttl;
         this.ticker = Instant.now();
     }
 
+    @Override
+    public ProcessingRuntime fork() {
+        return new Ticker(options, ttl.minus(Duration.between(ticker, Instant.now()).abs()), true);
+    }
+
     @Override
     public void tick() throws JsonLdError {
 
@@ -27,6 +27,7 @@ import com.apicatalog.jsonld.flattening.NodeMapBuilder;
 import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
 import com.apicatalog.rdf.Rdf;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfQuadConsumer;
 
 import jakarta.json.JsonArray;
 
@@ -41,6 +42,44 @@ public final class ToRdfProcessor {
     }
 
     public static final RdfDataset toRdf(final URI input, final JsonLdOptions options) throws JsonLdError {
+        return toRdf(load(input, options), options);
+    }
+
+    public static final RdfDataset toRdf(Document input, final JsonLdOptions options) throws JsonLdError {
+        return toRdf(toNodeMap(input, options), options);
+    }
+
+    /**
+     * Emits <code>N-Quads</code> to the given consumer without building
+     * {@link RdfDataset}.
+     *
+     * @param input a document to transform
+     * @param options processing options
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws JsonLdError if the transformation has failed
+     *
+     * @since 1.5.0
+     */
+    public static final void toRdf(final URI input, final JsonLdOptions options, final RdfQuadConsumer consumer) throws JsonLdError {
+        toRdf(load(input, options), options, consumer);
+    }
+
+    /**
+     * Emits <code>N-Quads</code> to the given consumer without building
+     * {@link RdfDataset}.
+     *
+     * @param input a document to transform
+     * @param options processing options
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws JsonLdError if the transformation has failed
+     *
+     * @since 1.5.0
+     */
+    public static final void toRdf(final Document input, final JsonLdOptions options, final RdfQuadConsumer consumer) throws JsonLdError {
+        toRdf(toNodeMap(input, options), options, consumer);
+    }
+
+    private static final Document load(final URI input, final JsonLdOptions options) throws JsonLdError {
 
         if (options.getDocumentLoader() == null) {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document loader is null. Cannot fetch [" + input + "].");
@@ -55,10 +94,10 @@ public final class ToRdfProcessor {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED);
         }
 
-        return toRdf(remoteDocument, options);
+        return remoteDocument;
     }
 
-    public static final RdfDataset toRdf(Document input, final JsonLdOptions options) throws JsonLdError {
+    private static final NodeMap toNodeMap(final Document input, final JsonLdOptions options) throws JsonLdError {
 
         final JsonLdOptions expansionOptions = new JsonLdOptions(options);
 
@@ -66,16 +105,30 @@ public final class ToRdfProcessor {
         expansionOptions.setBase(options.getBase());
         expansionOptions.setExpandContext(options.getExpandContext());
 
-        final JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions, false);
+        return toNodeMap(ExpansionProcessor.expand(input, expansionOptions, false));
+    }
 
+    static final NodeMap toNodeMap(final JsonArray expandedInput) throws JsonLdError {
+        return NodeMapBuilder.with(expandedInput, new NodeMap()).build();
+    }
+
+    static final RdfDataset toRdf(final NodeMap nodeMap, final JsonLdOptions options) throws JsonLdError {
         return JsonLdToRdf
-                        .with(
-                            NodeMapBuilder.with(expandedInput, new NodeMap()).build(),
-                            Rdf.createDataset()
-                            )
+                        .with(nodeMap, Rdf.createDataset())
                         .produceGeneralizedRdf(options.isProduceGeneralizedRdf())
                         .rdfDirection(options.getRdfDirection())
                         .uriValidation(options.isUriValidation())
+                        .ordered(options.isOrdered())
                         .build();
     }
+
+    static final void toRdf(final NodeMap nodeMap, final JsonLdOptions options, final RdfQuadConsumer consumer) throws JsonLdError {
+        JsonLdToRdf
+                .with(nodeMap)
+                .produceGeneralizedRdf(options.isProduceGeneralizedRdf())
+                .rdfDirection(options.getRdfDirection())
+                .uriValidation(options.isUriValidation())
+                .ordered(options.isOrdered())
+                .provide(consumer);
+    }
 }
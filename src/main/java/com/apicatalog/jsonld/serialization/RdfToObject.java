@@ -16,6 +16,7 @@
 package com.apicatalog.jsonld.serialization;
 
 import java.io.StringReader;
+import java.math.BigInteger;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
@@ -27,6 +28,7 @@ import com.apicatalog.rdf.RdfLiteral;
 import com.apicatalog.rdf.RdfValue;
 import com.apicatalog.rdf.lang.RdfConstants;
 import com.apicatalog.rdf.lang.XsdConstants;
+import com.apicatalog.rdf.lang.XsdNumbers;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
@@ -108,11 +110,30 @@ final class RdfToObject {
                 // 2.4.3.
                 } else if (XsdConstants.INTEGER.equals(literal.getDatatype()) || XsdConstants.INT.equals(literal.getDatatype()) || XsdConstants.LONG.equals(literal.getDatatype())) {
 
-                    convertedValue = JsonProvider.instance().createValue(Long.parseLong(literal.getValue()));
+                    if (XsdNumbers.isInteger(literal.getValue())) {
+
+                        // at most 18 digits always fit into long
+                        convertedValue = literal.getValue().length() < 19
+                                            ? JsonProvider.instance().createValue(Long.parseLong(literal.getValue()))
+                                            : JsonProvider.instance().createValue(new BigInteger(literal.getValue()));
+
+                    } else {
+                        type = literal.getDatatype();
+                    }
 
                 } else if (XsdConstants.DOUBLE.equals(literal.getDatatype())||XsdConstants.FLOAT.equals(literal.getDatatype())) {
 
-                    convertedValue = JsonProvider.instance().createValue(Double.parseDouble(literal.getValue()));
+                    final double number = XsdNumbers.isDouble(literal.getValue())
+                                            ? XsdNumbers.parseDouble(literal.getValue())
+                                            : Double.NaN;
+
+                    // JSON cannot represent NaN and infinite numbers
+                    if (Double.isFinite(number)) {
+                        convertedValue = JsonProvider.instance().createValue(number);
+
+                    } else {
+                        type = literal.getDatatype();
+                    }
 
                 } else if (literal.getDatatype() != null) {
 
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.uri;
+
+import java.net.URI;
+
+import com.apicatalog.jsonld.StringUtils;
+
+/**
+ * A base URI split into its components once, resolving relative references
+ * and relativizing absolute IRIs directly on strings.
+ * <p>
+ * Plain ASCII references without percent-encoded octets are processed
+ * without parsing them into {@link URI}, the others are delegated to
+ * {@link UriResolver} and {@link UriRelativizer}. Both paths produce equal
+ * results. Recent results are memoized, an instance is thread-safe.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class BaseUri {
+
+    private static final int MEMO_SIZE = 64;
+
+    private final URI uri;
+
+    // components as seen by the resolver
+    private final String scheme;
+    private final String authority;
+    private final String path;
+    private final String query;
+
+    // components as seen by the relativizer
+    private final String rawAuthority;
+    private final Path rawPath;
+
+    private final Entry[] resolved;
+    private final Entry[] relativized;
+
+    private BaseUri(final URI uri) {
+        this.uri = uri;
+
+        this.scheme = uri.getScheme();
+        this.query = uri.getQuery();
+        this.rawAuthority = uri.getAuthority();
+        this.rawPath = uri.getPath() != null ? Path.of(uri.getPath()) : null;
+
+        // the same hacks UriResolver applies to the base
+        this.authority = rawAuthority == null && uri.getSchemeSpecificPart().startsWith("///")
+                ? ""
+                : rawAuthority;
+
+        this.path = uri.getPath() == null && uri.getSchemeSpecificPart() != null
+                ? uri.getSchemeSpecificPart()
+                : uri.getPath();
+
+        this.resolved = new Entry[MEMO_SIZE];
+        this.relativized = new Entry[MEMO_SIZE];
+    }
+
+    public static final BaseUri of(final URI uri) {
+        if (uri == null) {
+            throw new IllegalArgumentException("The base URI cannot be null.");
+        }
+        return new BaseUri(uri);
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    /**
+     * Resolves the given reference against the base URI.
+     *
+     * @param reference a relative or an absolute IRI reference
+     * @return the resolved IRI
+     *
+     * @see UriResolver#resolve(URI, String)
+     */
+    public String resolve(final String reference) {
+
+        final int index = reference.hashCode() & (MEMO_SIZE - 1);
+
+        final Entry entry = resolved[index];
+
+        if (entry != null && entry.key.equals(reference)) {
+            return entry.value;
+        }
+
+        String result = isPlainRelative(reference) ? resolveRelative(reference) : null;
+
+        if (result == null) {
+            result = UriResolver.resolve(uri, reference);
+        }
+
+        resolved[index] = new Entry(reference, result);
+
+        return result;
+    }
+
+    /**
+     * Relativizes the given IRI against the base URI.
+     *
+     * @param iri an IRI to relativize
+     * @return a relative IRI reference, or the given IRI if it cannot be
+     *         relativized
+     *
+     * @see UriRelativizer#relativize(URI, String)
+     */
+    public String relativize(final String iri) {
+
+        final int index = iri.hashCode() & (MEMO_SIZE - 1);
+
+        final Entry entry = relativized[index];
+
+        if (entry != null && entry.key.equals(iri)) {
+            return entry.value;
+        }
+
+        String result = isPlain(iri) && UriScanner.classify(iri) == UriScanner.Form.ABSOLUTE
+                ? relativizeAbsolute(iri)
+                : null;
+
+        if (result == null) {
+            result = UriRelativizer.relativize(uri, iri);
+        }
+
+        relativized[index] = new Entry(iri, result);
+
+        return result;
+    }
+
+    // a relative reference which UriUtils#create passes to URI unchanged
+    private static final boolean isPlainRelative(final String reference) {
+        return isPlain(reference)
+                && !reference.startsWith("//")
+                && !reference.endsWith(":")
+                && UriScanner.classify(reference) == UriScanner.Form.RELATIVE;
+    }
+
+    // URI decodes nothing and rejects nothing in ASCII strings without '%'
+    private static final boolean isPlain(final String value) {
+
+        if (value.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch == '%' || ch > 0x7f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String resolveRelative(final String reference) {
+
+        final int fragmentIndex = reference.indexOf('#');
+        final int end = fragmentIndex != -1 ? fragmentIndex : reference.length();
+
+        int queryIndex = reference.indexOf('?');
+        if (queryIndex > end) {
+            queryIndex = -1;
+        }
+
+        final String referencePath = reference.substring(0, queryIndex != -1 ? queryIndex : end);
+        final String referenceQuery = queryIndex != -1 ? reference.substring(queryIndex + 1, end) : null;
+        final String fragment = fragmentIndex != -1 ? reference.substring(fragmentIndex + 1) : null;
+
+        final String targetPath;
+        final String targetQuery;
+
+        if (StringUtils.isNotBlank(referencePath)) {
+
+            if (referencePath.startsWith("/")) {
+                targetPath = UriResolver.removeDotSegments(referencePath);
+
+            } else if (path != null && StringUtils.isNotBlank(path)) {
+                targetPath = UriResolver.removeDotSegments(path.substring(0, path.lastIndexOf('/') + 1).concat(referencePath));
+
+            } else {
+                targetPath = "/".concat(UriResolver.removeDotSegments(referencePath));
+            }
+            targetQuery = referenceQuery;
+
+        } else {
+            targetPath = path;
+            targetQuery = referenceQuery != null ? referenceQuery : query;
+        }
+
+        return UriUtils.recompose(scheme, authority, targetPath, targetQuery, fragment);
+    }
+
+    private String relativizeAbsolute(final String iri) {
+
+        if (scheme == null || rawAuthority == null || rawPath == null) {
+            return null;
+        }
+
+        final int schemeEnd = iri.indexOf(':');
+
+        final int fragmentIndex = iri.indexOf('#');
+        final int end = fragmentIndex != -1 ? fragmentIndex : iri.length();
+
+        int queryIndex = iri.indexOf('?');
+        if (queryIndex > end) {
+            queryIndex = -1;
+        }
+        final int pathEnd = queryIndex != -1 ? queryIndex : end;
+
+        // an authority always follows the scheme, see UriScanner.Form.ABSOLUTE
+        final int authorityBegin = schemeEnd + 3;
+
+        int authorityEnd = iri.indexOf('/', authorityBegin);
+        if (authorityEnd == -1 || authorityEnd > pathEnd) {
+            authorityEnd = pathEnd;
+        }
+
+        // empty authorities and IP literals are left to URI
+        if (authorityEnd == authorityBegin || iri.lastIndexOf('[', authorityEnd - 1) >= authorityBegin) {
+            return null;
+        }
+
+        if (!iri.regionMatches(0, scheme, 0, schemeEnd) || scheme.length() != schemeEnd) {
+            return iri;
+        }
+
+        if (!iri.regionMatches(authorityBegin, rawAuthority, 0, authorityEnd - authorityBegin)
+                || rawAuthority.length() != authorityEnd - authorityBegin) {
+            return iri;
+        }
+
+        final String iriQuery = queryIndex != -1 ? iri.substring(queryIndex + 1, end) : null;
+        final String iriFragment = fragmentIndex != -1 ? iri.substring(fragmentIndex + 1) : null;
+
+        final Path iriPath = Path.of(iri.substring(authorityEnd, pathEnd));
+
+        final Path relative = iriPath.relativize(rawPath);
+
+        if (relative.isNotEmpty()) {
+            return UriUtils.recompose(null, null, relative.toString(), iriQuery, iriFragment);
+        }
+
+        if (!equals(query, iriQuery)) {
+            return UriUtils.recompose(null, null, null, iriQuery, iriFragment);
+        }
+
+        if (!equals(uri.getFragment(), iriFragment)) {
+            return UriUtils.recompose(null, null, null, null, iriFragment);
+        }
+
+        return iriPath.getLeaf() != null
+                ? iriPath.getLeaf()
+                : "./";
+    }
+
+    private static final boolean equals(final String a, final String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static final class Entry {
+
+        final String key;
+        final String value;
+
+        Entry(final String key, final String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -166,66 +166,88 @@ public final class UriResolver {
     }
 
     /**
+     * Removes dot segments of the given path, used by {@link BaseUri} as well.
+     * Trailing whitespace left after a removed segment is dropped.
      *
      * @see <a href="https://tools.ietf.org/html/rfc3986#section-5.2.4">Remove Dot
      *      Segments</a>
      *
-     * @param path
-     * @return
+     * @param path a path or <code>null</code>
+     * @return the path without dot segments
      */
-    private static final String removeDotSegments(final String path) {
+    static final String removeDotSegments(final String path) {
 
         if (path == null) {
             return null;
         }
 
-        String input = path;
-        List<String> output = new ArrayList<>();
+        // the input is processed until the rest is blank
+        int length = path.length();
+
+        while (length > 0 && Character.isWhitespace(path.charAt(length - 1))) {
+            length--;
+        }
+
+        if (length == 0) {
+            return "";
+        }
+
+        if (path.indexOf('.') == -1) {
+            return path;
+        }
+
+        final List<String> output = new ArrayList<>();
+
+        int index = 0;
 
-        while (StringUtils.isNotBlank(input)) {
+        while (index < length) {
 
             // A.
-            if (input.startsWith("../")) {
-                input = input.substring(3);
+            if (path.startsWith("../", index)) {
+                index += 3;
 
-            } else if (input.startsWith("./")) {
-                input = input.substring(2);
+            } else if (path.startsWith("./", index)) {
+                index += 2;
 
             // B.
-            } else if (input.startsWith("/./")) {
-                input = "/".concat(input.substring(3));
+            } else if (path.startsWith("/./", index)) {
+                index += 2;
 
-            } else if ("/.".equals(input)) {
-                input = "/";
+            } else if (path.startsWith("/.", index) && index + 2 == path.length()) {
+                output.add("/");
+                index = path.length();
 
             // C.
-            } else if (input.startsWith("/../")) {
-                input = "/".concat(input.substring(4));
+            } else if (path.startsWith("/../", index)) {
+                index += 3;
                 if (!output.isEmpty()) {
                     output.remove(output.size() - 1);
                 }
 
-            } else if ("/..".equals(input)) {
-                input = "/";
+            } else if (path.startsWith("/..", index) && index + 3 == path.length()) {
                 if (!output.isEmpty()) {
                     output.remove(output.size() - 1);
                 }
+                output.add("/");
+                index = path.length();
 
             // D.
-            } else if ("..".equals(input) || ".".equals(input)) {
-                input = "";
+            } else if (path.startsWith(".", index)
+                        && (index + 1 == path.length()
+                            || (index + 2 == path.length() && path.charAt(index + 1) == '.'))) {
+                index = path.length();
 
             // E.
             } else {
-                int nextSlashIndex = input.indexOf('/', 1);
+                final int nextSlashIndex = path.indexOf('/', index + 1);
 
                 if (nextSlashIndex != -1) {
-                    output.add(input.substring(0, nextSlashIndex));
-                    input = input.substring(nextSlashIndex);
+                    output.add(path.substring(index, nextSlashIndex));
+                    index = nextSlashIndex;
 
                 } else {
-                    output.add(input);
-                    input = "";
+                    output.add(path.substring(index));
+                    index = path.length();
                 }
             }
         }
@@ -0,0 +1,375 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.uri;
+
+/**
+ * A single pass, allocation-free scanner of IRI references classifying a
+ * string as an absolute IRI, a relative IRI reference, a compact IRI
+ * candidate, a blank node identifier or a keyword form.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc3987#section-2.2">RFC 3987 -
+ *      IRI Syntax</a>
+ *
+ * @since 1.5.0
+ */
+public final class UriScanner {
+
+    public enum Form {
+
+        /** <code>"@"1*ALPHA</code> */
+        KEYWORD_FORM,
+
+        /** <code>_:</code> prefixed identifier */
+        BLANK_NODE,
+
+        /** an absolute IRI with an authority, e.g. <code>https://example.org/a</code> */
+        ABSOLUTE,
+
+        /**
+         * an absolute IRI without an authority, e.g. <code>urn:x:y</code>, or
+         * <code>ex:name</code> where <code>ex</code> can be a prefix
+         */
+        COMPACT_IRI_CANDIDATE,
+
+        /** a relative IRI reference, e.g. <code>a/b?c</code> */
+        RELATIVE,
+
+        /** neither of the above */
+        INVALID;
+
+        /**
+         * @return <code>true</code> if an absolute IRI, with or without an authority
+         */
+        public boolean isAbsolute() {
+            return this == ABSOLUTE || this == COMPACT_IRI_CANDIDATE;
+        }
+
+        /**
+         * @return <code>true</code> if an absolute IRI or a relative IRI reference
+         */
+        public boolean isReference() {
+            return this == ABSOLUTE || this == COMPACT_IRI_CANDIDATE || this == RELATIVE;
+        }
+    }
+
+    private UriScanner() {
+    }
+
+    public static Form classify(final String value) {
+        return classify(value, 0, value.length());
+    }
+
+    /**
+     * Classifies the given region of the value.
+     *
+     * @param value to classify
+     * @param begin the first character, inclusive
+     * @param end the last character, exclusive
+     * @return the form of the region, never <code>null</code>
+     */
+    public static Form classify(final String value, final int begin, final int end) {
+
+        if (begin >= end) {
+            return Form.RELATIVE;
+        }
+
+        if (value.charAt(begin) == '@' && isKeywordForm(value, begin, end)) {
+            return Form.KEYWORD_FORM;
+        }
+
+        if (value.startsWith("_:", begin)) {
+            return Form.BLANK_NODE;
+        }
+
+        int index = begin;
+
+        // scheme
+        final int schemeEnd = scheme(value, begin, end);
+
+        if (schemeEnd != -1) {
+            index = schemeEnd + 1;
+        }
+
+        // authority
+        final boolean authority = end - index > 1 && value.charAt(index) == '/' && value.charAt(index + 1) == '/';
+
+        if (authority) {
+            index = authority(value, index + 2, end);
+
+            if (index == -1) {
+                return Form.INVALID;
+            }
+        }
+
+        // path, the first segment of a relative path cannot contain a colon
+        index = scan(value, index, end, PATH, schemeEnd == -1 && !authority);
+
+        // query
+        if (index < end && value.charAt(index) == '?') {
+            index = scan(value, index + 1, end, QUERY, false);
+        }
+
+        // fragment
+        if (index < end && value.charAt(index) == '#') {
+            index = scan(value, index + 1, end, FRAGMENT, false);
+        }
+
+        if (index != end) {
+            return Form.INVALID;
+        }
+
+        if (schemeEnd == -1) {
+            return Form.RELATIVE;
+        }
+
+        return authority ? Form.ABSOLUTE : Form.COMPACT_IRI_CANDIDATE;
+    }
+
+    // component scanned
+    private static final int PATH = 0;
+    private static final int QUERY = 1;
+    private static final int FRAGMENT = 2;
+
+    // returns an index of the first character not belonging to the component
+    private static int scan(final String value, int index, final int end, final int component, boolean noColon) {
+
+        while (index < end) {
+
+            final int ch = value.codePointAt(index);
+
+            if (ch == '%') {
+                if (!isPctEncoded(value, index, end)) {
+                    return index;
+                }
+                index += 3;
+                continue;
+            }
+
+            if (ch == '/') {
+                noColon = false;
+
+            } else if (ch == ':') {
+                if (noColon) {
+                    return index;
+                }
+
+            } else if (ch == '?') {
+                if (component == PATH) {
+                    return index;
+                }
+
+            } else if (!isPChar(ch) && !(component == QUERY && isPrivate(ch))) {
+                return index;
+            }
+
+            index += Character.charCount(ch);
+        }
+
+        return index;
+    }
+
+    // returns an index of the first character following the authority, or -1
+    private static int authority(final String value, final int begin, final int end) {
+
+        int authorityEnd = begin;
+
+        while (authorityEnd < end
+                && value.charAt(authorityEnd) != '/'
+                && value.charAt(authorityEnd) != '?'
+                && value.charAt(authorityEnd) != '#') {
+            authorityEnd++;
+        }
+
+        int index = begin;
+
+        // user info
+        final int at = value.indexOf('@', begin);
+
+        if (at != -1 && at < authorityEnd) {
+            while (index < at) {
+
+                final int ch = value.codePointAt(index);
+
+                if (ch == '%') {
+                    if (!isPctEncoded(value, index, at)) {
+                        return -1;
+                    }
+                    index += 3;
+                    continue;
+                }
+
+                if (ch != ':' && !isUnreserved(ch) && !isSubDelim(ch)) {
+                    return -1;
+                }
+                index += Character.charCount(ch);
+            }
+            index++;
+        }
+
+        // IP literal
+        if (index < authorityEnd && value.charAt(index) == '[') {
+
+            index++;
+
+            final int literalBegin = index;
+
+            while (index < authorityEnd && value.charAt(index) != ']') {
+
+                final char ch = value.charAt(index);
+
+                if (ch != ':' && ch != '.' && !isUnreserved(ch) && !isSubDelim(ch)) {
+                    return -1;
+                }
+                index++;
+            }
+
+            if (index == authorityEnd || index == literalBegin) {
+                return -1;
+            }
+            index++;
+
+        // host name
+        } else {
+            while (index < authorityEnd && value.charAt(index) != ':') {
+
+                final int ch = value.codePointAt(index);
+
+                if (ch == '%') {
+                    if (!isPctEncoded(value, index, authorityEnd)) {
+                        return -1;
+                    }
+                    index += 3;
+                    continue;
+                }
+
+                if (!isUnreserved(ch) && !isSubDelim(ch)) {
+                    return -1;
+                }
+                index += Character.charCount(ch);
+            }
+        }
+
+        // port
+        if (index < authorityEnd) {
+
+            if (value.charAt(index) != ':') {
+                return -1;
+            }
+
+            for (index++; index < authorityEnd; index++) {
+                if (value.charAt(index) < '0' || value.charAt(index) > '9') {
+                    return -1;
+                }
+            }
+        }
+
+        return authorityEnd;
+    }
+
+    // returns an index of the scheme terminating colon, or -1
+    private static int scheme(final String value, final int begin, final int end) {
+
+        if (!isAlpha(value.charAt(begin))) {
+            return -1;
+        }
+
+        for (int index = begin + 1; index < end; index++) {
+
+            final char ch = value.charAt(index);
+
+            if (ch == ':') {
+                return index;
+            }
+
+            if (!isAlpha(ch) && !isDigit(ch) && ch != '+' && ch != '-' && ch != '.') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    // the same as Keywords.matchForm but over the region
+    private static boolean isKeywordForm(final String value, final int begin, final int end) {
+
+        if (end - begin < 2) {
+            return false;
+        }
+
+        for (int index = begin + 1; index < end; index++) {
+            if (!Character.isAlphabetic(value.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPctEncoded(final String value, final int index, final int end) {
+        return index + 2 < end && isHex(value.charAt(index + 1)) && isHex(value.charAt(index + 2));
+    }
+
+    private static boolean isPChar(final int ch) {
+        return isUnreserved(ch) || isSubDelim(ch) || ch == ':' || ch == '@';
+    }
+
+    private static boolean isUnreserved(final int ch) {
+        return isAlpha(ch) || isDigit(ch) || ch == '-' || ch == '.' || ch == '_' || ch == '~' || isUcsChar(ch);
+    }
+
+    private static boolean isSubDelim(final int ch) {
+        switch (ch) {
+        case '!':
+        case '$':
+        case '&':
+        case '\'':
+        case '(':
+        case ')':
+        case '*':
+        case '+':
+        case ',':
+        case ';':
+        case '=':
+            return true;
+
+        default:
+            return false;
+        }
+    }
+
+    private static boolean isUcsChar(final int ch) {
+        return ch >= 0xA0
+                && (ch <= 0xD7FF
+                    || (0xF900 <= ch && ch <= 0xFDCF)
+                    || (0xFDF0 <= ch && ch <= 0xFFEF)
+                    || (0x10000 <= ch && ch <= 0xEFFFD && (ch & 0xFFFF) <= 0xFFFD));
+    }
+
+    private static boolean isPrivate(final int ch) {
+        return (0xE000 <= ch && ch <= 0xF8FF)
+                || (0xF0000 <= ch && ch <= 0x10FFFD && (ch & 0xFFFF) <= 0xFFFD);
+    }
+
+    private static boolean isAlpha(final int ch) {
+        return 'a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z';
+    }
+
+    private static boolean isDigit(final int ch) {
+        return '0' <= ch && ch <= '9';
+    }
+
+    private static boolean isHex(final int ch) {
+        return isDigit(ch) || 'a' <= ch && ch <= 'f' || 'A' <= ch && ch <= 'F';
+    }
+}
@@ -18,7 +18,6 @@ package com.apicatalog.jsonld.uri;
 import java.net.URI;
 
 import com.apicatalog.jsonld.StringUtils;
-import com.apicatalog.jsonld.lang.Keywords;
 
 public final class UriUtils {
 
@@ -27,10 +26,13 @@ public final class UriUtils {
 
     public static final boolean isURI(final String value) {
 
-        return value != null
-                    && StringUtils.isNotBlank(value)
-                    && !Keywords.matchForm(StringUtils.strip(value))
-                    && create(StringUtils.strip(value)) != null;
+        if (value == null) {
+            return false;
+        }
+
+        final UriScanner.Form form = classifyStripped(value);
+
+        return form != null && form.isReference();
     }
 
 
@@ -40,12 +42,14 @@ public final class UriUtils {
             throw new IllegalArgumentException("The uri cannot be null.");
         }
 
-        String uriValue = StringUtils.strip(uri);
+        final UriScanner.Form form = classifyStripped(uri);
 
-        if (uriValue.isEmpty()) {
+        if (form == null || (!form.isReference() && form != UriScanner.Form.KEYWORD_FORM)) {
             return null;
         }
 
+        String uriValue = StringUtils.strip(uri);
+
         if (uriValue.endsWith(":")) {
             uriValue += ".";
 
@@ -77,11 +81,7 @@ public final class UriUtils {
     }
 
     public static final boolean isNotURI(final String uri) {
-        return uri == null
-                || StringUtils.isBlank(uri)
-                || Keywords.matchForm(StringUtils.strip(uri))
-                || create(StringUtils.strip(uri)) == null
-                ;
+        return !isURI(uri);
     }
 
     /**
@@ -128,11 +128,33 @@ public final class UriUtils {
             return false;
         }
 
-        try {
-            return URI.create(uri).isAbsolute();
-        } catch (IllegalArgumentException e) {
-            return false;
+        return UriScanner.classify(uri).isAbsolute();
+    }
+
+    // classifies the value without leading and trailing whitespace, and
+    // a trailing square bracket, returns null if the value is blank
+    private static final UriScanner.Form classifyStripped(final String value) {
+
+        int begin = 0;
+        int end = value.length();
+
+        while (begin < end && Character.isWhitespace(value.charAt(begin))) {
+            begin++;
         }
+
+        while (end > begin && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+
+        if (begin == end) {
+            return null;
+        }
+
+        if (value.charAt(end - 1) == '[' || value.charAt(end - 1) == ']') {
+            end--;
+        }
+
+        return UriScanner.classify(value, begin, end);
     }
 
     private static final boolean startsWithScheme(final String uri) {
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Passes each distinct <code>N-Quad</code> once, the same way
+ * {@link RdfDataset} de-duplicates statements of a graph.
+ */
+final class DistinctQuadConsumer implements RdfQuadConsumer {
+
+    private final RdfQuadConsumer consumer;
+
+    // default graph is indexed by null
+    private final Map<RdfResource, Set<RdfTriple>> graphs;
+
+    DistinctQuadConsumer(final RdfQuadConsumer consumer) {
+        this.consumer = consumer;
+        this.graphs = new HashMap<>();
+    }
+
+    @Override
+    public void accept(final RdfNQuad nquad) throws IOException {
+
+        final Set<RdfTriple> graph = graphs.computeIfAbsent(nquad.getGraphName().orElse(null), x -> new HashSet<>());
+
+        if (graph.add(nquad)) {
+            consumer.accept(nquad);
+        }
+    }
+}
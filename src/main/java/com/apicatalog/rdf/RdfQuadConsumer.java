@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf;
+
+import java.io.IOException;
+
+/**
+ * Receives <code>N-Quads</code> as they are produced, e.g. by
+ * <code>toRdf</code> conversion, without building {@link RdfDataset}.
+ *
+ * @since 1.5.0
+ */
+@FunctionalInterface
+public interface RdfQuadConsumer {
+
+    /**
+     * Accepts <code>N-Quad</code>.
+     *
+     * @param nquad to accept
+     * @throws IOException if the quad cannot be processed, e.g. written
+     */
+    void accept(RdfNQuad nquad) throws IOException;
+
+    /**
+     * Wraps the given consumer to skip <code>N-Quads</code> already accepted.
+     * Please note, accepted <code>N-Quads</code> are kept in memory.
+     *
+     * @param consumer to wrap
+     * @return a consumer accepting each distinct <code>N-Quad</code> once
+     */
+    static RdfQuadConsumer distinct(final RdfQuadConsumer consumer) {
+        return new DistinctQuadConsumer(consumer);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collection;
 
 import com.apicatalog.jsonld.StringUtils;
+import com.apicatalog.jsonld.context.cache.Cache;
 import com.apicatalog.jsonld.http.media.MediaType;
 import com.apicatalog.rdf.RdfDataset;
 import com.apicatalog.rdf.RdfGraph;
@@ -42,6 +43,31 @@ public final class DefaultRdfProvider extends RdfProvider {
 
     private static final Collection<MediaType> CAN_READWRITE = Arrays.asList(MediaType.N_QUADS);
 
+    // an optional dictionary of IRIs and blank nodes
+    private final Cache<String, RdfResource> terms;
+
+    public DefaultRdfProvider() {
+        this(null);
+    }
+
+    /**
+     * Creates a new provider sharing instances of identical IRIs, blank nodes
+     * and datatypes. Created resources are kept in the given cache, a bounded
+     * cache limits memory held by the dictionary.
+     *
+     * <pre>
+     * RdfProvider.setProvider(new DefaultRdfProvider(new ConcurrentCache&lt;&gt;(100_000)));
+     * </pre>
+     *
+     * @param terms a dictionary of resources, or <code>null</code> to create a
+     *              new instance each time
+     *
+     * @since 1.5.0
+     */
+    public DefaultRdfProvider(final Cache<String, RdfResource> terms) {
+        this.terms = terms;
+    }
+
     @Override
     public RdfDataset createDataset() {
         return new RdfDatasetImpl();
@@ -106,10 +132,10 @@ public final class DefaultRdfProvider extends RdfProvider {
         }
 
         if (!value.startsWith("_:")) {
-            return new RdfResourceImpl("_:" +value, true);
+            return resource("_:" + value, true);
         }
 
-        return new RdfResourceImpl(value, true);
+        return resource(value, true);
     }
 
     @Override
@@ -118,7 +144,7 @@ public final class DefaultRdfProvider extends RdfProvider {
             throw new IllegalArgumentException();
         }
 
-        return new RdfResourceImpl(value, false);
+        return resource(value, false);
     }
 
     @Override
@@ -136,7 +162,12 @@ public final class DefaultRdfProvider extends RdfProvider {
             throw new IllegalArgumentException();
         }
 
-        return new RdfLiteralImpl(lexicalForm, null, datatype);
+        return new RdfLiteralImpl(
+                        lexicalForm,
+                        null,
+                        terms != null && datatype != null
+                            ? resource(datatype, false).getValue()
+                            : datatype);
     }
 
     @Override
@@ -149,6 +180,27 @@ public final class DefaultRdfProvider extends RdfProvider {
         return CAN_READWRITE;
     }
 
+    private RdfResource resource(final String value, final boolean blankNode) {
+
+        if (terms == null) {
+            return new RdfResourceImpl(value, blankNode);
+        }
+
+        final RdfResource cached = terms.get(value);
+
+        if (cached != null && cached.isBlankNode() == blankNode) {
+            return cached;
+        }
+
+        final RdfResource resource = new RdfResourceImpl(value, blankNode);
+
+        if (cached == null) {
+            terms.put(value, resource);
+        }
+
+        return resource;
+    }
+
     private static final boolean isBlank(String value) {
         return value.isEmpty()
                 || StringUtils.isBlank(value) && value.chars().noneMatch(ch -> ch == '\n' || ch == '\r' || ch == '\t' || ch == '\f');
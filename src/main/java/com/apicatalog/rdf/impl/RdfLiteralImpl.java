@@ -31,6 +31,8 @@ final class RdfLiteralImpl implements RdfLiteral {
 
     private final String dataType;
 
+    private final int hashCode;
+
     protected RdfLiteralImpl(String value) {
         this(value, null, null);
     }
@@ -39,6 +41,7 @@ final class RdfLiteralImpl implements RdfLiteral {
         this.value = value;
         this.langTag = langTag;
         this.dataType = datatype(langTag, datatype);
+        this.hashCode = Objects.hash(dataType, langTag, value);
     }
 
     @Override
@@ -63,7 +66,7 @@ final class RdfLiteralImpl implements RdfLiteral {
 
     @Override
     public int hashCode() {
-        return Objects.hash(dataType, langTag, value);
+        return hashCode;
     }
 
     @Override
@@ -78,7 +81,8 @@ final class RdfLiteralImpl implements RdfLiteral {
             return false;
         }
         RdfLiteralImpl other = (RdfLiteralImpl) obj;
-        return Objects.equals(dataType, other.dataType) && Objects.equals(langTag, other.langTag)
+        return hashCode == other.hashCode
+                && Objects.equals(dataType, other.dataType) && Objects.equals(langTag, other.langTag)
                 && Objects.equals(value, other.value);
     }
 
@@ -24,9 +24,13 @@ final class RdfResourceImpl implements RdfResource {
     private final String value;
     private final boolean blankNode;
 
+    // resources are used as index keys, see RdfGraphImpl
+    private final int hashCode;
+
     protected RdfResourceImpl(final String value, boolean isBlankNode) {
         this.value = value;
         this.blankNode = isBlankNode;
+        this.hashCode = Objects.hash(value);
     }
 
     @Override
@@ -46,7 +50,7 @@ final class RdfResourceImpl implements RdfResource {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return hashCode;
     }
 
     @Override
@@ -61,7 +65,7 @@ final class RdfResourceImpl implements RdfResource {
             return false;
         }
         RdfResourceImpl other = (RdfResourceImpl) obj;
-        return Objects.equals(value, other.value);
+        return hashCode == other.hashCode && Objects.equals(value, other.value);
     }
 
     @Override
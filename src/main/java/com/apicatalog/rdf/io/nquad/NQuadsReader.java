@@ -15,6 +15,7 @@
  */
 package com.apicatalog.rdf.io.nquad;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.util.Arrays;
 
@@ -23,11 +24,11 @@ import com.apicatalog.rdf.Rdf;
 import com.apicatalog.rdf.RdfDataset;
 import com.apicatalog.rdf.RdfLiteral;
 import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.RdfQuadConsumer;
 import com.apicatalog.rdf.RdfResource;
 import com.apicatalog.rdf.RdfValue;
 import com.apicatalog.rdf.io.RdfReader;
 import com.apicatalog.rdf.io.error.RdfReaderException;
-import com.apicatalog.rdf.io.nquad.Tokenizer.Token;
 import com.apicatalog.rdf.io.nquad.Tokenizer.TokenType;
 
 /**
@@ -42,7 +43,17 @@ public final class NQuadsReader implements RdfReader {
     private RdfDataset dataset;
 
     public NQuadsReader(final Reader reader) {
-        this.tokenizer = new Tokenizer(reader);
+        this(reader, 1);
+    }
+
+    /**
+     * Creates a new reader of a part of a larger input.
+     *
+     * @param reader the input
+     * @param firstLine a line number of the first line, used in error messages
+     */
+    NQuadsReader(final Reader reader, final int firstLine) {
+        this.tokenizer = new Tokenizer(reader, firstLine);
         this.dataset = null;
     }
 
@@ -53,7 +64,29 @@ public final class NQuadsReader implements RdfReader {
             return dataset;
         }
 
-        dataset = Rdf.createDataset();
+        final RdfDataset result = Rdf.createDataset();
+
+        try {
+            read(result::add);
+
+        } catch (IOException e) {
+            // never happens, adding to a dataset does not throw
+            throw new RdfReaderException(e);
+        }
+
+        dataset = result;
+
+        return dataset;
+    }
+
+    /**
+     * Reads the input and passes each statement to the given consumer.
+     *
+     * @param consumer receiving statements
+     * @throws RdfReaderException if the input is not valid <code>N-Quads</code>
+     * @throws IOException if the consumer has failed
+     */
+    void read(final RdfQuadConsumer consumer) throws RdfReaderException, IOException {
 
         while (tokenizer.hasNext()) {
 
@@ -66,10 +99,8 @@ public final class NQuadsReader implements RdfReader {
                 continue;
             }
 
-            dataset.add(reaStatement());
+            consumer.accept(reaStatement());
         }
-
-        return dataset;
     }
 
     private RdfNQuad reaStatement() throws RdfReaderException {
@@ -88,9 +119,9 @@ public final class NQuadsReader implements RdfReader {
 
         skipWhitespace(0);
 
-        if (TokenType.IRI_REF == tokenizer.token().getType()) {
+        if (TokenType.IRI_REF == tokenizer.token()) {
 
-            final String graphNameIri = tokenizer.token().getValue();
+            final String graphNameIri = tokenizer.value();
 
             assertAbsoluteIri(graphNameIri, "Graph name");
 
@@ -99,15 +130,15 @@ public final class NQuadsReader implements RdfReader {
             skipWhitespace(0);
         }
 
-        if (TokenType.BLANK_NODE_LABEL == tokenizer.token().getType()) {
+        if (TokenType.BLANK_NODE_LABEL == tokenizer.token()) {
 
-            graphName = Rdf.createBlankNode("_:".concat(tokenizer.token().getValue()));
+            graphName = Rdf.createBlankNode(tokenizer.value());
             tokenizer.next();
             skipWhitespace(0);
         }
 
-        if (TokenType.END_OF_STATEMENT != tokenizer.token().getType()) {
-            unexpected(tokenizer.token(), TokenType.END_OF_STATEMENT);
+        if (TokenType.END_OF_STATEMENT != tokenizer.token()) {
+            unexpected(TokenType.END_OF_STATEMENT);
         }
 
         tokenizer.next();
@@ -115,12 +146,12 @@ public final class NQuadsReader implements RdfReader {
         skipWhitespace(0);
 
         // skip comment
-        if (TokenType.COMMENT == tokenizer.token().getType()) {
+        if (TokenType.COMMENT == tokenizer.token()) {
             tokenizer.next();
 
         // skip end of line
-        } else if (TokenType.END_OF_LINE != tokenizer.token().getType() && TokenType.END_OF_INPUT != tokenizer.token().getType()) {
-            unexpected(tokenizer.token(), TokenType.END_OF_LINE, TokenType.END_OF_INPUT);
+        } else if (TokenType.END_OF_LINE != tokenizer.token() && TokenType.END_OF_INPUT != tokenizer.token()) {
+            unexpected(TokenType.END_OF_LINE, TokenType.END_OF_INPUT);
             tokenizer.next();
         }
 
@@ -129,48 +160,53 @@ public final class NQuadsReader implements RdfReader {
 
     private RdfResource readResource(String name)  throws RdfReaderException {
 
-        final Token token = tokenizer.token();
+        final TokenType token = tokenizer.token();
 
-        if (TokenType.IRI_REF == token.getType()) {
+        if (TokenType.IRI_REF == token) {
 
-            tokenizer.next();
+            final String iri = tokenizer.value();
 
-            final String iri = token.getValue();
+            tokenizer.next();
 
             assertAbsoluteIri(iri, name);
 
             return Rdf.createIRI(iri);
         }
 
-        if (TokenType.BLANK_NODE_LABEL == token.getType()) {
+        if (TokenType.BLANK_NODE_LABEL == token) {
+
+            final String label = tokenizer.value();
 
             tokenizer.next();
 
-            return Rdf.createBlankNode("_:".concat(token.getValue()));
+            return Rdf.createBlankNode(label);
         }
 
-        return unexpected(token);
+        return unexpected();
     }
 
     private RdfValue readObject()  throws RdfReaderException {
 
-        Token token = tokenizer.token();
+        final TokenType token = tokenizer.token();
 
-        if (TokenType.IRI_REF == token.getType()) {
-            tokenizer.next();
+        if (TokenType.IRI_REF == token) {
 
-            final String iri = token.getValue();
+            final String iri = tokenizer.value();
+
+            tokenizer.next();
 
             assertAbsoluteIri(iri, "Object");
 
             return Rdf.createIRI(iri);
         }
 
-        if (TokenType.BLANK_NODE_LABEL == token.getType()) {
+        if (TokenType.BLANK_NODE_LABEL == token) {
+
+            final String label = tokenizer.value();
 
             tokenizer.next();
 
-            return Rdf.createBlankNode("_:".concat(token.getValue()));
+            return Rdf.createBlankNode(label);
         }
 
         return readLiteral();
@@ -178,53 +214,52 @@ public final class NQuadsReader implements RdfReader {
 
     private RdfLiteral readLiteral()  throws RdfReaderException {
 
-        Token value = tokenizer.token();
-
-        if (TokenType.STRING_LITERAL_QUOTE != value.getType()) {
-            unexpected(value);
+        if (TokenType.STRING_LITERAL_QUOTE != tokenizer.token()) {
+            unexpected();
         }
 
+        final String value = tokenizer.value();
+
         tokenizer.next();
 
         skipWhitespace(0);
 
-        if (TokenType.LANGTAG == tokenizer.token().getType()) {
+        if (TokenType.LANGTAG == tokenizer.token()) {
 
-            String langTag = tokenizer.token().getValue();
+            final String langTag = tokenizer.value();
 
             tokenizer.next();
 
-            return Rdf.createLangString(value.getValue(), langTag);
+            return Rdf.createLangString(value, langTag);
 
-        } else if (TokenType.LITERAL_DATA_TYPE == tokenizer.token().getType()) {
+        } else if (TokenType.LITERAL_DATA_TYPE == tokenizer.token()) {
 
             tokenizer.next();
             skipWhitespace(0);
 
-            Token attr = tokenizer.token();
+            if (TokenType.IRI_REF == tokenizer.token()) {
 
-            if (TokenType.IRI_REF == attr.getType()) {
+                final String iri = tokenizer.value();
 
                 tokenizer.next();
 
-                final String iri = attr.getValue();
-
                 assertAbsoluteIri(iri, "DataType");
 
-                return Rdf.createTypedString(value.getValue(), iri);
+                return Rdf.createTypedString(value, iri);
             }
 
-            unexpected(attr);
+            unexpected();
         }
 
-        return Rdf.createString(value.getValue());
+        return Rdf.createString(value);
     }
 
 
-    private static final <T> T unexpected(Token token, TokenType ...types) throws RdfReaderException {
+    private <T> T unexpected(TokenType ...types) throws RdfReaderException {
         throw new RdfReaderException(
-                    "Unexpected token " + token.getType() + (token.getValue() != null ? "[" + token.getValue() + "]" : "" ) +  ". "
-                    + "Expected one of " + Arrays.toString(types) + "."
+                    "Unexpected token " + tokenizer.token() + (tokenizer.value() != null ? "[" + tokenizer.value() + "]" : "" ) +  ". "
+                    + "Expected one of " + Arrays.toString(types) + ". "
+                    + "Line " + tokenizer.line() + "."
                     );
     }
 
@@ -237,13 +272,13 @@ public final class NQuadsReader implements RdfReader {
         }
 
         if (count < min) {
-            unexpected(tokenizer.token());
+            unexpected();
         }
     }
 
-    private static final void assertAbsoluteIri(final String iri, final String what) throws RdfReaderException {
+    private void assertAbsoluteIri(final String iri, final String what) throws RdfReaderException {
         if (UriUtils.isNotAbsoluteUri(iri, true)) {
-            throw new RdfReaderException(what + " must be an absolute IRI [" + iri  +  "]. ");
+            throw new RdfReaderException(what + " must be an absolute IRI [" + iri  +  "]. Line " + tokenizer.line() + ".");
         }
     }
 }
@@ -22,6 +22,7 @@ import java.util.Optional;
 import com.apicatalog.rdf.RdfDataset;
 import com.apicatalog.rdf.RdfLiteral;
 import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.RdfQuadConsumer;
 import com.apicatalog.rdf.RdfResource;
 import com.apicatalog.rdf.RdfValue;
 import com.apicatalog.rdf.io.RdfWriter;
@@ -32,7 +33,7 @@ import com.apicatalog.rdf.lang.XsdConstants;
  * @see <a href="https://www.w3.org/TR/n-quads/">RDF 1.1. N-Quads</a>
  *
  */
-public class NQuadsWriter implements RdfWriter {
+public class NQuadsWriter implements RdfWriter, RdfQuadConsumer {
 
     private final Writer writer;
 
@@ -50,6 +51,11 @@ public class NQuadsWriter implements RdfWriter {
         writer.flush();
     }
 
+    @Override
+    public void accept(final RdfNQuad nquad) throws IOException {
+        write(nquad);
+    }
+
     public void write(final RdfNQuad nquad) throws IOException {
 
         writeValue(nquad.getSubject());
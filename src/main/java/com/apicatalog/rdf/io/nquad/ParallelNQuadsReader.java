@@ -0,0 +1,247 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.io.nquad;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.apicatalog.rdf.Rdf;
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.RdfQuadConsumer;
+import com.apicatalog.rdf.io.RdfReader;
+import com.apicatalog.rdf.io.error.RdfReaderException;
+
+/**
+ * Reads <code>N-Quads</code> in parallel. The input is split into chunks at
+ * line boundaries, the chunks are parsed by {@link ForkJoinPool} workers and
+ * statements are emitted in the input order. Error messages report line
+ * numbers relative to the whole input.
+ * <p>
+ * The input must be <code>UTF-8</code> encoded. The number of chunks being
+ * parsed at once is bounded, so the input does not need to fit in memory
+ * when statements are streamed by {@link #provide(RdfQuadConsumer)}.
+ * </p>
+ *
+ * @see <a href="https://www.w3.org/TR/n-quads/">RDF 1.1. N-Quads</a>
+ *
+ * @since 1.5.0
+ */
+public final class ParallelNQuadsReader implements RdfReader {
+
+    private static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private final InputStream input;
+
+    private final ForkJoinPool pool;
+
+    private final int chunkSize;
+
+    public ParallelNQuadsReader(final InputStream input) {
+        this(input, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new reader.
+     *
+     * @param input <code>UTF-8</code> encoded <code>N-Quads</code>
+     * @param pool a pool parsing chunks
+     * @param chunkSize a chunk size in bytes, a chunk is extended if a line is longer
+     */
+    public ParallelNQuadsReader(final InputStream input, final ForkJoinPool pool, final int chunkSize) {
+
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero but is [" + chunkSize + "].");
+        }
+
+        this.input = input;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public RdfDataset readDataset() throws IOException, RdfReaderException {
+
+        final RdfDataset dataset = Rdf.createDataset();
+
+        provide(dataset::add);
+
+        return dataset;
+    }
+
+    /**
+     * Reads the input and passes each statement to the given consumer, in the
+     * input order. The consumer is called by the calling thread.
+     *
+     * @param consumer receiving statements
+     * @throws IOException if the input cannot be read or the consumer has failed
+     * @throws RdfReaderException if the input is not valid <code>N-Quads</code>
+     */
+    public void provide(final RdfQuadConsumer consumer) throws IOException, RdfReaderException {
+
+        final Deque<Future<List<RdfNQuad>>> pending = new ArrayDeque<>();
+
+        final int maxPending = Math.max(2, pool.getParallelism() * 2);
+
+        // set once no more statements are emitted, e.g. after a failure
+        final AtomicBoolean cancelled = new AtomicBoolean();
+
+        byte[] buffer = new byte[chunkSize];
+        int length = 0;
+        int line = 1;
+
+        try {
+            boolean eof = false;
+
+            while (!eof) {
+
+                // fill the buffer
+                while (length < buffer.length) {
+
+                    final int count = input.read(buffer, length, buffer.length - length);
+
+                    if (count == -1) {
+                        eof = true;
+                        break;
+                    }
+                    length += count;
+                }
+
+                // split after the last end of line, CR and LF bytes are never a part of multi-byte UTF-8 sequence
+                int end = length;
+
+                if (!eof) {
+                    while (end > 0 && buffer[end - 1] != '\n' && buffer[end - 1] != '\r') {
+                        end--;
+                    }
+
+                    // a line longer than the buffer
+                    if (end == 0) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                        continue;
+                    }
+                }
+
+                if (end > 0) {
+                    final byte[] chunk = Arrays.copyOf(buffer, end);
+                    final int firstLine = line;
+
+                    final CompletableFuture<List<RdfNQuad>> statements = new CompletableFuture<>();
+
+                    pool.execute(() -> {
+                        try {
+                            // the statements are not going to be emitted
+                            if (cancelled.get()) {
+                                return;
+                            }
+                            statements.complete(parse(chunk, firstLine));
+
+                        } catch (Throwable e) {
+                            statements.completeExceptionally(e);
+                        }
+                    });
+
+                    pending.add(statements);
+
+                    line += lines(chunk);
+                }
+
+                // keep the rest for the next chunk
+                System.arraycopy(buffer, end, buffer, 0, length - end);
+                length -= end;
+
+                while (pending.size() >= maxPending) {
+                    emit(pending.removeFirst(), consumer);
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                emit(pending.removeFirst(), consumer);
+            }
+
+        } finally {
+            cancelled.set(true);
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static final List<RdfNQuad> parse(final byte[] chunk, final int firstLine) throws RdfReaderException, IOException {
+
+        final List<RdfNQuad> statements = new ArrayList<>();
+
+        new NQuadsReader(
+                new InputStreamReader(new ByteArrayInputStream(chunk), StandardCharsets.UTF_8),
+                firstLine)
+            .read(statements::add);
+
+        return statements;
+    }
+
+    private static final int lines(final byte[] chunk) {
+        int count = 0;
+        for (final byte ch : chunk) {
+            if (ch == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static final void emit(final Future<List<RdfNQuad>> future, final RdfQuadConsumer consumer) throws IOException, RdfReaderException {
+
+        final List<RdfNQuad> statements;
+
+        try {
+            statements = future.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RdfReaderException(e);
+
+        } catch (ExecutionException e) {
+
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof RdfReaderException) {
+                throw new RdfReaderException(cause.getMessage(), cause);
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RdfReaderException(cause);
+        }
+
+        for (final RdfNQuad statement : statements) {
+            consumer.accept(statement);
+        }
+    }
+}
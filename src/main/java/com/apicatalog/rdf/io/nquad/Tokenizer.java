@@ -15,7 +15,6 @@
  */
 package com.apicatalog.rdf.io.nquad;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Arrays;
@@ -24,6 +23,10 @@ import com.apicatalog.rdf.io.error.RdfReaderException;
 import com.apicatalog.rdf.lang.RdfAlphabet;
 
 /**
+ * Scans <code>N-Quads</code> over a reusable character buffer. A token value
+ * is collected into a reusable buffer and materialized as {@link String} only
+ * when requested. Repeated IRIs, blank node labels and language tags share
+ * the same {@link String} instance.
  *
  * @see <a href="https://www.w3.org/TR/n-quads/#sec-grammar">N-Quads Grammar</a>
  *
@@ -32,481 +35,570 @@ final class Tokenizer {
 
     private static final int BUFFER_SIZE = 8192*2;
 
+    // must be a power of two
+    private static final int STRING_CACHE_SIZE = 1024;
+
     private final Reader reader;
 
-    private Token next;
+    // input window, characters in [position, limit) are not consumed yet
+    private char[] buffer;
+    private int position;
+    private int limit;
 
-    protected Tokenizer(Reader reader) {
-        this.reader = new BufferedReader(reader, BUFFER_SIZE);
-        this.next = null;
-    }
+    // the current token value
+    private char[] value;
+    private int length;
 
-    public Token next() throws RdfReaderException {
+    private TokenType type;
+    private String string;
 
-        if (!hasNext()) {
-            return next;
-        }
+    private final String[] strings;
+
+    // the current line number, lines are terminated by '\n'
+    private int line;
+
+    // the line the current token starts at
+    private int tokenLine;
 
-        next = doRead();
-        return next;
+    protected Tokenizer(Reader reader) {
+        this(reader, 1);
     }
 
-    public Token token() throws RdfReaderException {
-        hasNext();
-        return next;
+    protected Tokenizer(Reader reader, int firstLine) {
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.position = 0;
+        this.limit = 0;
+        this.value = new char[256];
+        this.length = 0;
+        this.type = null;
+        this.string = null;
+        this.strings = new String[STRING_CACHE_SIZE];
+        this.line = firstLine;
+        this.tokenLine = firstLine;
     }
 
-    public boolean accept(TokenType type) throws RdfReaderException {
-        if (type == token().getType()) {
-            next();
-            return true;
+    public TokenType next() throws RdfReaderException {
+
+        if (hasNext()) {
+            doRead();
         }
-        return false;
+        return type;
     }
 
-    private Token doRead() throws RdfReaderException {
+    public TokenType token() throws RdfReaderException {
+        hasNext();
+        return type;
+    }
 
-        try {
-            int ch = reader.read();
+    /**
+     * A value of the current token.
+     *
+     * @return the value or <code>null</code> if the token has no value
+     * @throws RdfReaderException if the input cannot be read
+     */
+    public String value() throws RdfReaderException {
 
-            if (ch == -1) {
-                return Token.EOI;
-            }
+        hasNext();
 
-            // WS
-            if (RdfAlphabet.WHITESPACE.test(ch)) {
-                return skipWhitespaces();
-            }
+        if (string == null) {
 
-            // Comment
-            if (ch == '#') {
-                return readComment();
-            }
+            switch (type) {
+            case IRI_REF:
+            case BLANK_NODE_LABEL:
+            case LANGTAG:
+                string = intern();
+                break;
 
-            if (ch == '<') {
-                return readIriRef();
-            }
+            case STRING_LITERAL_QUOTE:
+                string = new String(value, 0, length);
+                break;
 
-            if (ch == '"') {
-                return readString();
-            }
-
-            if (ch == '.') {
-                return Token.EOS;
-            }
-
-            if (RdfAlphabet.EOL.test(ch)) {
-                return skipEol();
+            default:
+                break;
             }
+        }
+        return string;
+    }
 
-            if (ch == '@') {
-                return readLangTag();
-            }
+    /**
+     * A line number the current token starts at.
+     *
+     * @return the line number
+     */
+    public int line() {
+        return tokenLine;
+    }
 
-            if (ch == '_') {
-                return readBlankNode();
-            }
+    public boolean accept(TokenType type) throws RdfReaderException {
+        if (type == token()) {
+            next();
+            return true;
+        }
+        return false;
+    }
 
-            if (ch == '^') {
+    public boolean hasNext() throws RdfReaderException {
+        if (type == null) {
+            doRead();
+        }
+        return TokenType.END_OF_INPUT != type;
+    }
 
-                ch = reader.read();
+    private void doRead() throws RdfReaderException {
 
-                if ('^' != ch) {
-                    unexpected(ch, "^");
-                }
-                return Token.LITERAL_DATA_TYPE;
-            }
+        length = 0;
+        string = null;
+        tokenLine = line;
 
-            unexpected(ch, "\\t", "\\n", "\\r", "^", "@", "SPACE", ".", "<", "_", "\"", "#");
+        try {
+            type = readToken();
 
         } catch (IOException e) {
             throw new RdfReaderException(e);
         }
-
-        throw new IllegalStateException();
     }
 
-    private static final void unexpected(int actual, String ...expected) throws RdfReaderException {
-        throw new RdfReaderException(
-                        actual != -1
-                            ? "Unexpected character [" + (char)actual  + "] expected " +  Arrays.toString(expected) + "."
-                            : "Unexpected end of input, expected " + Arrays.toString(expected) + "."
-                            );
-    }
+    private TokenType readToken() throws RdfReaderException, IOException {
 
-    private Token skipWhitespaces() throws RdfReaderException {
+        int ch = read();
 
-        try {
-            reader.mark(1);
-            int ch = reader.read();
+        if (ch == -1) {
+            return TokenType.END_OF_INPUT;
+        }
 
-            while (RdfAlphabet.WHITESPACE.test(ch)) {
-                reader.mark(1);
-                ch = reader.read();
+        // WS
+        if (RdfAlphabet.WHITESPACE.test(ch)) {
+            while (RdfAlphabet.WHITESPACE.test(peek())) {
+                position++;
             }
+            return TokenType.WHITE_SPACE;
+        }
 
-            reader.reset();
+        // Comment
+        if (ch == '#') {
+            skipComment();
+            return TokenType.COMMENT;
+        }
 
-            return Token.WS;
+        if (ch == '<') {
+            readIriRef();
+            return TokenType.IRI_REF;
+        }
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+        if (ch == '"') {
+            readString();
+            return TokenType.STRING_LITERAL_QUOTE;
         }
-    }
 
-    private Token skipEol() throws RdfReaderException {
+        if (ch == '.') {
+            return TokenType.END_OF_STATEMENT;
+        }
 
-        try {
-            reader.mark(1);
-            int ch = reader.read();
+        if (RdfAlphabet.EOL.test(ch)) {
 
-            while (RdfAlphabet.EOL.test(ch)) {
-                reader.mark(1);
-                ch = reader.read();
+            if (ch == '\n') {
+                line++;
             }
 
-            reader.reset();
+            while (RdfAlphabet.EOL.test(ch = peek())) {
 
-            return Token.EOL;
+                if (ch == '\n') {
+                    line++;
+                }
+                position++;
+            }
+            return TokenType.END_OF_LINE;
+        }
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+        if (ch == '@') {
+            readLangTag();
+            return TokenType.LANGTAG;
         }
-    }
 
-    private Token readIriRef() throws RdfReaderException {
+        if (ch == '_') {
+            readBlankNode();
+            return TokenType.BLANK_NODE_LABEL;
+        }
 
-        try {
+        if (ch == '^') {
 
-            StringBuilder value = new StringBuilder();
+            ch = read();
 
-            int ch = reader.read();
+            if ('^' != ch) {
+                unexpected(ch, "^");
+            }
+            return TokenType.LITERAL_DATA_TYPE;
+        }
 
-            while (ch != '>'  && ch != -1) {
+        return unexpected(ch, "\\t", "\\n", "\\r", "^", "@", "SPACE", ".", "<", "_", "\"", "#");
+    }
 
-                if ((0x00 <= ch && ch <= 0x20)
-                     || ch == '<'
-                     || ch == '"'
-                     || ch == '{'
-                     || ch == '}'
-                     || ch == '|'
-                     || ch == '^'
-                     || ch == '`'
-                        ) {
-                    unexpected(ch, ">");
-                }
+    private <T> T unexpected(int actual, String ...expected) throws RdfReaderException {
+        throw new RdfReaderException(
+                        (actual != -1
+                            ? "Unexpected character [" + (char)actual  + "] expected " +  Arrays.toString(expected) + "."
+                            : "Unexpected end of input, expected " + Arrays.toString(expected) + ".")
+                        + " Line " + line + "."
+                            );
+    }
 
-                if (ch == '\\') {
+    private void readIriRef() throws RdfReaderException, IOException {
 
-                    readIriEscape(value);
+        while (position < limit || fill()) {
 
-                } else {
-                    value.append((char)ch);
-                }
-                ch = reader.read();
-            }
+            // copy a run of plain characters at once
+            final int start = position;
 
-            if (ch == -1) {
-                unexpected(ch);
+            while (position < limit && isIriChar(buffer[position])) {
+                position++;
             }
 
-            return new Token(TokenType.IRI_REF, value.toString());
-
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
-        }
-    }
+            append(buffer, start, position - start);
 
-    private Token readString() throws RdfReaderException {
-        try {
+            if (position == limit) {
+                continue;
+            }
 
-            StringBuilder value = new StringBuilder();
+            final char ch = buffer[position++];
 
-            int ch = reader.read();
+            if (ch == '>') {
+                return;
+            }
 
-            while (ch != '"' && ch != -1) {
+            if (ch != '\\') {
+                unexpected(ch, ">");
+            }
 
-                if (ch == 0xa || ch == 0xd) {
-                    unexpected(ch);
-                }
+            final int escaped = read();
 
-                if (ch == '\\') {
+            if (escaped == 'u') {
+                appendCodePoint(readHex(4));
 
-                    readEscape(value);
+            } else if (escaped == 'U') {
+                appendCodePoint(readHex(8));
 
-                } else {
-                    value.appendCodePoint(ch);
-                }
-                ch = reader.read();
-            }
-
-            if (ch == -1) {
-                unexpected(ch);
+            } else {
+                unexpected(escaped);
             }
+        }
 
-            return new Token(TokenType.STRING_LITERAL_QUOTE, value.toString());
+        unexpected(-1);
+    }
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
-        }
+    private static final boolean isIriChar(final char ch) {
+        return ch > 0x20
+                && ch != '>'
+                && ch != '\\'
+                && ch != '<'
+                && ch != '"'
+                && ch != '{'
+                && ch != '}'
+                && ch != '|'
+                && ch != '^'
+                && ch != '`';
     }
 
-    private Token readLangTag() throws RdfReaderException {
-        try {
+    private void readString() throws RdfReaderException, IOException {
 
-            StringBuilder value = new StringBuilder();
+        while (position < limit || fill()) {
 
-            int ch = reader.read();
+            // copy a run of plain characters at once
+            final int start = position;
 
-            if (!RdfAlphabet.ASCII_ALPHA.test(ch) || ch == -1) {
-                unexpected(ch);
+            while (position < limit && isStringChar(buffer[position])) {
+                position++;
             }
-            value.append((char)ch);
 
-            reader.mark(1);
-            ch = reader.read();
+            append(buffer, start, position - start);
 
-            while (RdfAlphabet.ASCII_ALPHA.test(ch)) {
+            if (position == limit) {
+                continue;
+            }
 
-                value.append((char)ch);
+            final char ch = buffer[position++];
 
-                reader.mark(1);
-                ch = reader.read();
+            if (ch == '"') {
+                return;
             }
 
-            if (ch == -1) {
+            if (ch != '\\') {
                 unexpected(ch);
             }
 
-            boolean delim = false;
+            readEscape();
+        }
 
-            while (RdfAlphabet.ASCII_ALPHA_NUM.test(ch) || ch == '-') {
+        unexpected(-1);
+    }
 
-                value.append((char)ch);
+    private static final boolean isStringChar(final char ch) {
+        return ch != '"' && ch != '\\' && ch != 0xa && ch != 0xd;
+    }
 
-                reader.mark(1);
-                ch = reader.read();
+    private void readEscape() throws RdfReaderException, IOException {
 
-                delim = ch == '-';
-            }
+        final int ch = read();
 
-            if (ch == -1 || delim) {
-                unexpected(ch);
-            }
+        switch (ch) {
+        case 't':
+            append((char) 0x9);
+            break;
 
-            reader.reset();
+        case 'b':
+            append((char) 0x8);
+            break;
 
-            return new Token(TokenType.LANGTAG, value.toString());
-
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
-        }
-    }
+        case 'n':
+            append((char) 0xa);
+            break;
 
-    private void readIriEscape(final StringBuilder value) throws RdfReaderException, IOException {
-        int ch = reader.read();
+        case 'r':
+            append((char) 0xd);
+            break;
 
-        if (ch == 'u') {
+        case 'f':
+            append((char) 0xc);
+            break;
 
-            value.append(readUnicode());
+        case '\'':
+        case '\\':
+        case '"':
+            append((char) ch);
+            break;
 
-        } else if (ch == 'U') {
+        case 'u':
+            appendCodePoint(readHex(4));
+            break;
 
-            value.append(readUnicode64());
+        case 'U':
+            appendCodePoint(readHex(8));
+            break;
 
-        } else {
+        default:
             unexpected(ch);
         }
     }
 
-    private void readEscape(final StringBuilder value) throws RdfReaderException, IOException {
-        int ch = reader.read();
-
-        if (ch == 't' || ch == 'b' || ch == 'n' || ch == 'r' || ch == 'f' || ch == '\'' || ch == '\\' || ch =='"') {
-
-            value.appendCodePoint(unescape(ch));
-
-        } else if (ch == 'u') {
-
-            value.append(readUnicode());
-
-        } else if (ch == 'U') {
+    private void readLangTag() throws RdfReaderException, IOException {
 
-            value.append(readUnicode64());
+        int ch = read();
 
-        } else {
+        if (!RdfAlphabet.ASCII_ALPHA.test(ch)) {
             unexpected(ch);
         }
-    }
 
-    private Token readBlankNode() throws RdfReaderException {
+        append((char) ch);
 
-        try {
+        while (RdfAlphabet.ASCII_ALPHA.test(peek())) {
+            append(buffer[position++]);
+        }
+
+        // ('-' [a-zA-Z0-9]+)*
+        while (peek() == '-') {
 
-            StringBuilder value = new StringBuilder();
+            append(buffer[position++]);
 
-            int ch = reader.read();
+            ch = peek();
 
-            if (ch != ':') {
+            if (!RdfAlphabet.ASCII_ALPHA_NUM.test(ch)) {
                 unexpected(ch);
             }
 
-            ch = reader.read();
-
-            if (RdfAlphabet.PN_CHARS_U.negate().and(RdfAlphabet.ASCII_DIGIT.negate()).test(ch) || ch == -1) {
-                unexpected(ch);
+            while (RdfAlphabet.ASCII_ALPHA_NUM.test(peek())) {
+                append(buffer[position++]);
             }
+        }
 
-            value.append((char)ch);
+        if (peek() == -1) {
+            unexpected(-1);
+        }
+    }
 
-            reader.mark(1);
-            ch = reader.read();
+    private void readBlankNode() throws RdfReaderException, IOException {
 
-            boolean delim = false;
+        int ch = read();
 
-            while (RdfAlphabet.PN_CHARS.test(ch) || ch == '.') {
+        if (ch != ':') {
+            unexpected(ch);
+        }
 
-                delim = ch == '.';
+        ch = read();
 
-                value.append((char)ch);
+        if (RdfAlphabet.PN_CHARS_U.negate().and(RdfAlphabet.ASCII_DIGIT.negate()).test(ch) || ch == -1) {
+            unexpected(ch);
+        }
 
-                if (delim) {
-                    reader.reset();
-                    reader.mark(2);
-                    reader.skip(1);
-                } else {
-                    reader.mark(1);
-                }
+        append('_');
+        append(':');
+        append((char) ch);
+
+        while (true) {
 
-                ch = reader.read();
+            ch = peek();
 
+            if (RdfAlphabet.PN_CHARS.test(ch)) {
+                append(buffer[position++]);
+                continue;
             }
 
-            if (ch == -1) {
-                unexpected(ch);
+            if (ch != '.') {
+                break;
             }
 
-            reader.reset();
+            // dots are allowed only when followed by PN_CHARS
+            int dots = 1;
 
-            if (delim && value.length() > 0) {
-                value.setLength(value.length() - 1);
+            while (peek(dots) == '.') {
+                dots++;
             }
 
-            return new Token(TokenType.BLANK_NODE_LABEL, value.toString());
+            if (!RdfAlphabet.PN_CHARS.test(peek(dots))) {
+                break;
+            }
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+            for (int i = 0; i < dots; i++) {
+                append(buffer[position++]);
+            }
         }
-    }
 
-    private char[] readUnicode() throws RdfReaderException, IOException {
+        if (ch == -1) {
+            unexpected(ch);
+        }
+    }
 
-        char[] code = new char[4];
+    private void skipComment() throws IOException {
 
-        code[0] = readHex8();
-        code[1] = readHex8();
-        code[2] = readHex8();
-        code[3] = readHex8();
+        int ch = peek();
 
-        return Character.toChars(Integer.parseInt(String.valueOf(code), 16));
+        while (ch != -1 && RdfAlphabet.EOL.negate().test(ch)) {
+            position++;
+            ch = peek();
+        }
     }
 
-    private char readHex8()  throws IOException, RdfReaderException {
+    private int readHex(final int digits) throws RdfReaderException, IOException {
 
-        int hex = reader.read();
+        int code = 0;
 
-        if (RdfAlphabet.HEX.negate().test(hex)) {
-            unexpected(hex, "0-9", "a-f", "A-F");
-        }
-        return (char)hex;
-    }
+        for (int i = 0; i < digits; i++) {
 
-    private char[] readUnicode64()  throws IOException, RdfReaderException {
+            final int hex = read();
 
-        char[] code = new char[8];
+            if (RdfAlphabet.HEX.negate().test(hex)) {
+                unexpected(hex, "0-9", "a-f", "A-F");
+            }
 
-        for (int i=0; i < code.length; i++) {
-            code[i] = readHex8();
+            code = (code << 4) | Character.digit(hex, 16);
         }
 
-        return Character.toChars(Integer.parseInt(String.valueOf(code), 16));
-    }
-
-    private static final int unescape(int symbol) {
-        if (symbol == 't') {
-            return 0x9;
+        if (!Character.isValidCodePoint(code)) {
+            throw new IllegalArgumentException("Not a valid Unicode code point: 0x" + Integer.toHexString(code).toUpperCase());
+        }
 
-        } else if (symbol == 'b') {
-            return 0x8;
+        return code;
+    }
 
-        } else if (symbol == 'n') {
-            return 0xa;
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
 
-        } else if (symbol == 'r') {
-            return 0xd;
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
 
-        } else if (symbol == 'f') {
-            return 0xc;
+    private int peek(final int offset) throws IOException {
+        while (limit - position <= offset) {
+            if (!fill()) {
+                return -1;
+            }
         }
-        return symbol;
+        return buffer[position + offset];
     }
 
-    private Token readComment() throws RdfReaderException {
-        try {
+    private boolean fill() throws IOException {
 
-            StringBuilder value = new StringBuilder();
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
 
-            int ch = reader.read();
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
 
-            while (RdfAlphabet.EOL.negate().test(ch) && ch != -1) {
+        final int count = reader.read(buffer, limit, buffer.length - limit);
 
-                value.appendCodePoint(ch);
-                ch = reader.read();
-            }
+        if (count == -1) {
+            return false;
+        }
 
-            return new Token(TokenType.COMMENT, value.toString());
+        limit += count;
+        return true;
+    }
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+    private void append(final char ch) {
+        if (length == value.length) {
+            value = Arrays.copyOf(value, value.length * 2);
         }
+        value[length++] = ch;
     }
 
-    public boolean hasNext() throws RdfReaderException {
-        if (next == null) {
-            next = doRead();
+    private void append(final char[] chars, final int offset, final int count) {
+        if (length + count > value.length) {
+            value = Arrays.copyOf(value, Math.max(value.length * 2, length + count));
         }
-        return TokenType.END_OF_INPUT != next.getType();
+        System.arraycopy(chars, offset, value, length, count);
+        length += count;
     }
 
-    protected static class Token {
+    private void appendCodePoint(final int codePoint) {
+        if (Character.isBmpCodePoint(codePoint)) {
+            append((char) codePoint);
 
-        protected static final Token EOI = new Token(TokenType.END_OF_INPUT, null);
-        protected static final Token EOS = new Token(TokenType.END_OF_STATEMENT, null);
-        protected static final Token EOL = new Token(TokenType.END_OF_LINE, null);
-        protected static final Token WS = new Token(TokenType.WHITE_SPACE, null);
+        } else {
+            append(Character.highSurrogate(codePoint));
+            append(Character.lowSurrogate(codePoint));
+        }
+    }
 
-        protected static final Token LITERAL_DATA_TYPE = new Token(TokenType.LITERAL_DATA_TYPE, null);
+    // returns a cached instance if the same value has been seen recently
+    private String intern() {
 
-        private final TokenType type;
-        private final String value;
+        int hash = 0;
 
-        protected Token(TokenType type, String value) {
-            this.type = type;
-            this.value = value;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + value[i];
         }
 
-        protected TokenType getType() {
-            return type;
-        }
+        final int index = (hash ^ (hash >>> 16)) & (STRING_CACHE_SIZE - 1);
 
-        protected String getValue() {
-            return value;
-        }
+        final String cached = strings[index];
 
-        @Override
-        public String toString() {
-            return "Token [type=" + type + ", value=" + value + "]";
+        if (cached != null && cached.length() == length) {
+
+            int i = 0;
+
+            while (i < length && cached.charAt(i) == value[i]) {
+                i++;
+            }
+
+            if (i == length) {
+                return cached;
+            }
         }
+
+        final String string = new String(value, 0, length);
+        strings[index] = string;
+
+        return string;
     }
 
     protected enum TokenType {
@@ -522,4 +614,3 @@ final class Tokenizer {
         END_OF_INPUT,
     }
 }
-
@@ -0,0 +1,467 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.lang;
+
+import java.math.BigInteger;
+
+/**
+ * Canonical lexical forms of XSD numeric datatypes. Doubles are formatted
+ * with the shortest digits that read back to the same value, using the Ryu
+ * algorithm.
+ * <p>
+ * All the methods are thread-safe.
+ * </p>
+ *
+ * @see <a href="https://www.w3.org/TR/xmlschema11-2/#f-doubleCanmap">XSD
+ *      double canonical mapping</a>
+ * @see <a href="https://doi.org/10.1145/3192366.3192369">Ryu: fast
+ *      float-to-string conversion</a>
+ *
+ * @since 1.5.0
+ */
+public final class XsdNumbers {
+
+    private static final int MANTISSA_BITS = 52;
+    private static final long MANTISSA_MASK = (1L << MANTISSA_BITS) - 1;
+    private static final int EXPONENT_MASK = (1 << 11) - 1;
+    private static final int EXPONENT_BIAS = 1023;
+
+    private static final int POW5_BITCOUNT = 125;
+    private static final int POW5_INV_BITCOUNT = 125;
+
+    // 5^i normalized to POW5_BITCOUNT bits, [i][0] high, [i][1] low 64 bits
+    private static final long[][] POW5_SPLIT = new long[326][2];
+
+    // 2^(bitLength(5^i) - 1 + POW5_INV_BITCOUNT) / 5^i + 1, [i][0] high, [i][1] low 64 bits
+    private static final long[][] POW5_INV_SPLIT = new long[342][2];
+
+    static {
+        final BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+        BigInteger pow = BigInteger.ONE;
+
+        for (int i = 0; i < POW5_INV_SPLIT.length; i++) {
+
+            final int pow5length = pow.bitLength();
+
+            if (i < POW5_SPLIT.length) {
+
+                final BigInteger pow5 = pow5length > POW5_BITCOUNT
+                        ? pow.shiftRight(pow5length - POW5_BITCOUNT)
+                        : pow.shiftLeft(POW5_BITCOUNT - pow5length);
+
+                POW5_SPLIT[i][0] = pow5.shiftRight(64).longValue();
+                POW5_SPLIT[i][1] = pow5.and(mask).longValue();
+            }
+
+            final BigInteger inv = BigInteger.ONE
+                    .shiftLeft(pow5length - 1 + POW5_INV_BITCOUNT)
+                    .divide(pow)
+                    .add(BigInteger.ONE);
+
+            POW5_INV_SPLIT[i][0] = inv.shiftRight(64).longValue();
+            POW5_INV_SPLIT[i][1] = inv.and(mask).longValue();
+
+            pow = pow.multiply(BigInteger.valueOf(5));
+        }
+    }
+
+    private XsdNumbers() {
+    }
+
+    /**
+     * Formats the value in the canonical lexical form of <code>xsd:double</code>,
+     * e.g. <code>1.1E0</code>, <code>-2.5E-3</code>, <code>INF</code>.
+     *
+     * @param value to format
+     * @return the canonical lexical form
+     */
+    public static String formatDouble(final double value) {
+
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (value == Double.POSITIVE_INFINITY) {
+            return "INF";
+        }
+        if (value == Double.NEGATIVE_INFINITY) {
+            return "-INF";
+        }
+
+        final long bits = Double.doubleToRawLongBits(value);
+
+        final long ieeeMantissa = bits & MANTISSA_MASK;
+        final int ieeeExponent = (int) ((bits >>> MANTISSA_BITS) & EXPONENT_MASK);
+
+        if (ieeeMantissa == 0 && ieeeExponent == 0) {
+            return bits < 0 ? "-0.0E0" : "0.0E0";
+        }
+
+        int e2;
+        long m2;
+
+        if (ieeeExponent == 0) {
+            e2 = 1 - EXPONENT_BIAS - MANTISSA_BITS - 2;
+            m2 = ieeeMantissa;
+
+        } else {
+            e2 = ieeeExponent - EXPONENT_BIAS - MANTISSA_BITS - 2;
+            m2 = (1L << MANTISSA_BITS) | ieeeMantissa;
+        }
+
+        final boolean acceptBounds = (m2 & 1) == 0;
+
+        // the interval of valid decimal representations
+        final long mv = 4 * m2;
+        final int mmShift = ieeeMantissa != 0 || ieeeExponent <= 1 ? 1 : 0;
+
+        // convert to a decimal power base
+        long vr;
+        long vp;
+        long vm;
+        int e10;
+
+        boolean vmIsTrailingZeros = false;
+        boolean vrIsTrailingZeros = false;
+
+        if (e2 >= 0) {
+
+            final int q = log10Pow2(e2) - (e2 > 3 ? 1 : 0);
+            final int i = -e2 + q + POW5_INV_BITCOUNT + pow5bits(q) - 1;
+
+            e10 = q;
+
+            vr = mulShift(mv, POW5_INV_SPLIT[q], i);
+            vp = mulShift(mv + 2, POW5_INV_SPLIT[q], i);
+            vm = mulShift(mv - 1 - mmShift, POW5_INV_SPLIT[q], i);
+
+            if (q <= 21) {
+                if (mv % 5 == 0) {
+                    vrIsTrailingZeros = pow5Factor(mv) >= q;
+
+                } else if (acceptBounds) {
+                    vmIsTrailingZeros = pow5Factor(mv - 1 - mmShift) >= q;
+
+                } else if (pow5Factor(mv + 2) >= q) {
+                    vp--;
+                }
+            }
+
+        } else {
+
+            final int q = log10Pow5(-e2) - (-e2 > 1 ? 1 : 0);
+            final int i = -e2 - q;
+            final int j = q - (pow5bits(i) - POW5_BITCOUNT);
+
+            e10 = q + e2;
+
+            vr = mulShift(mv, POW5_SPLIT[i], j);
+            vp = mulShift(mv + 2, POW5_SPLIT[i], j);
+            vm = mulShift(mv - 1 - mmShift, POW5_SPLIT[i], j);
+
+            if (q <= 1) {
+                vrIsTrailingZeros = true;
+
+                if (acceptBounds) {
+                    vmIsTrailingZeros = mmShift == 1;
+
+                } else {
+                    vp--;
+                }
+
+            } else if (q < 63) {
+                vrIsTrailingZeros = (mv & ((1L << q) - 1)) == 0;
+            }
+        }
+
+        // find the shortest representation in the interval
+        int removed = 0;
+        int lastRemovedDigit = 0;
+        long output;
+
+        if (vmIsTrailingZeros || vrIsTrailingZeros) {
+
+            while (vp / 10 > vm / 10) {
+                vmIsTrailingZeros &= vm % 10 == 0;
+                vrIsTrailingZeros &= lastRemovedDigit == 0;
+                lastRemovedDigit = (int) (vr % 10);
+                vr /= 10;
+                vp /= 10;
+                vm /= 10;
+                removed++;
+            }
+
+            if (vmIsTrailingZeros) {
+                while (vm % 10 == 0) {
+                    vrIsTrailingZeros &= lastRemovedDigit == 0;
+                    lastRemovedDigit = (int) (vr % 10);
+                    vr /= 10;
+                    vp /= 10;
+                    vm /= 10;
+                    removed++;
+                }
+            }
+
+            // round to even if the exact number is .....50..0
+            if (vrIsTrailingZeros && lastRemovedDigit == 5 && vr % 2 == 0) {
+                lastRemovedDigit = 4;
+            }
+
+            output = vr + ((vr == vm && (!acceptBounds || !vmIsTrailingZeros)) || lastRemovedDigit >= 5 ? 1 : 0);
+
+        } else {
+
+            boolean roundUp = false;
+
+            while (vp / 10 > vm / 10) {
+                roundUp = vr % 10 >= 5;
+                vr /= 10;
+                vp /= 10;
+                vm /= 10;
+                removed++;
+            }
+
+            output = vr + (vr == vm || roundUp ? 1 : 0);
+        }
+
+        return toString(bits < 0, output, e10 + removed);
+    }
+
+    /**
+     * Checks if the value is in the lexical space of <code>xsd:integer</code>.
+     *
+     * @param value to check
+     * @return <code>true</code> if the value is a valid integer
+     */
+    public static boolean isInteger(final String value) {
+
+        int index = 0;
+
+        if (!value.isEmpty() && (value.charAt(0) == '+' || value.charAt(0) == '-')) {
+            index++;
+        }
+
+        return index < value.length() && digits(value, index) == value.length();
+    }
+
+    /**
+     * Checks if the value is in the lexical space of <code>xsd:double</code>,
+     * including <code>INF</code>, <code>-INF</code> and <code>NaN</code>.
+     *
+     * @param value to check
+     * @return <code>true</code> if the value is a valid double
+     */
+    public static boolean isDouble(final String value) {
+
+        if ("NaN".equals(value)) {
+            return true;
+        }
+
+        int index = 0;
+
+        if (!value.isEmpty() && (value.charAt(0) == '+' || value.charAt(0) == '-')) {
+            index++;
+        }
+
+        if (value.startsWith("INF", index)) {
+            return index + 3 == value.length();
+        }
+
+        // mantissa
+        int end = digits(value, index);
+        boolean mantissa = end > index;
+
+        if (end < value.length() && value.charAt(end) == '.') {
+            final int fraction = end + 1;
+            end = digits(value, fraction);
+            mantissa |= end > fraction;
+        }
+
+        if (!mantissa) {
+            return false;
+        }
+
+        // exponent
+        if (end < value.length() && (value.charAt(end) == 'e' || value.charAt(end) == 'E')) {
+
+            index = end + 1;
+
+            if (index < value.length() && (value.charAt(index) == '+' || value.charAt(index) == '-')) {
+                index++;
+            }
+
+            end = digits(value, index);
+
+            if (end == index) {
+                return false;
+            }
+        }
+
+        return end == value.length();
+    }
+
+    /**
+     * Parses a value in the lexical space of <code>xsd:double</code>.
+     *
+     * @param value to parse
+     * @return the parsed value
+     * @throws NumberFormatException if the value is not a valid double
+     */
+    public static double parseDouble(final String value) {
+
+        if (!isDouble(value)) {
+            throw new NumberFormatException("The value [" + value + "] is not valid xsd:double.");
+        }
+
+        switch (value) {
+        case "INF":
+        case "+INF":
+            return Double.POSITIVE_INFINITY;
+
+        case "-INF":
+            return Double.NEGATIVE_INFINITY;
+
+        default:
+            return Double.parseDouble(value);
+        }
+    }
+
+    private static int digits(final String value, int index) {
+        while (index < value.length() && RdfAlphabet.ASCII_DIGIT.test(value.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static String toString(final boolean negative, final long output, final int exponent) {
+
+        // sign, 17 digits, a dot, E, and an exponent sign with 3 digits
+        final char[] result = new char[24];
+
+        int index = 0;
+
+        if (negative) {
+            result[index++] = '-';
+        }
+
+        final int length = decimalLength(output);
+
+        // the first digit, a dot and the remaining digits
+        long digits = output;
+
+        for (int i = length - 1; i > 0; i--) {
+            result[index + i + 1] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+
+        result[index] = (char) ('0' + digits);
+        result[index + 1] = '.';
+
+        if (length == 1) {
+            result[index + 2] = '0';
+            index += 3;
+
+        } else {
+            index += length + 1;
+        }
+
+        // the exponent
+        result[index++] = 'E';
+
+        int scientificExponent = exponent + length - 1;
+
+        if (scientificExponent < 0) {
+            result[index++] = '-';
+            scientificExponent = -scientificExponent;
+        }
+
+        if (scientificExponent >= 100) {
+            result[index++] = (char) ('0' + scientificExponent / 100);
+            scientificExponent %= 100;
+            result[index++] = (char) ('0' + scientificExponent / 10);
+
+        } else if (scientificExponent >= 10) {
+            result[index++] = (char) ('0' + scientificExponent / 10);
+        }
+
+        result[index++] = (char) ('0' + scientificExponent % 10);
+
+        return new String(result, 0, index);
+    }
+
+    private static int decimalLength(final long value) {
+        int length = 1;
+        for (long bound = 10; length < 19 && value >= bound; bound *= 10) {
+            length++;
+        }
+        return length;
+    }
+
+    private static int pow5Factor(long value) {
+        int count = 0;
+        while (value > 0 && value % 5 == 0) {
+            value /= 5;
+            count++;
+        }
+        return count;
+    }
+
+    // ceil(log2(5^e)) for e in [0, 3528]
+    private static int pow5bits(final int e) {
+        return (int) (((e * 1217359L) >>> 19) + 1);
+    }
+
+    // floor(log10(2^e)) for e in [0, 1650]
+    private static int log10Pow2(final int e) {
+        return (int) ((e * 78913L) >>> 18);
+    }
+
+    // floor(log10(5^e)) for e in [0, 2620]
+    private static int log10Pow5(final int e) {
+        return (int) ((e * 732923L) >>> 20);
+    }
+
+    // (m * multiplier) >> shift, where m has at most 55 bits and the multiplier 128 bits
+    private static long mulShift(final long m, final long[] multiplier, final int shift) {
+
+        final long high1 = multiplyHigh(m, multiplier[0]);
+        final long low1 = m * multiplier[0];
+
+        final long high0 = multiplyHigh(m, multiplier[1]);
+
+        final long sum = high0 + low1;
+
+        final long high = Long.compareUnsigned(sum, high0) < 0 ? high1 + 1 : high1;
+
+        final int distance = shift - 64;
+
+        return (high << (64 - distance)) | (sum >>> distance);
+    }
+
+    // the high 64 bits of the unsigned 128 bit product
+    private static long multiplyHigh(final long x, final long y) {
+
+        final long x0 = x & 0xFFFFFFFFL;
+        final long x1 = x >>> 32;
+        final long y0 = y & 0xFFFFFFFFL;
+        final long y1 = y >>> 32;
+
+        final long p01 = x0 * y1;
+        final long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+
+        return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+    }
+}
@@ -19,16 +19,25 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URI;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import com.apicatalog.jsonld.JsonLd;
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.loader.ZipResourceLoader;
+import com.apicatalog.jsonld.test.JsonLdManifestLoader;
+import com.apicatalog.jsonld.test.JsonLdTestCase;
 
+import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 
@@ -73,4 +82,25 @@ class CompactionApiTest {
         assertNotNull(compacted);
         assertEquals(JsonValue.EMPTY_JSON_OBJECT, compacted);
     }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("manifest")
+    void testWriteTo(final JsonLdTestCase testCase) throws JsonLdError {
+
+        final JsonObject expected = JsonLd.compact(testCase.input, testCase.context).options(testCase.getOptions()).get();
+
+        final StringWriter writer = new StringWriter();
+
+        JsonLd.compact(testCase.input, testCase.context).options(testCase.getOptions()).writeTo(writer);
+
+        assertEquals(expected, Json.createReader(new StringReader(writer.toString())).readObject());
+    }
+
+    static final Stream<JsonLdTestCase> manifest() throws JsonLdError {
+        return JsonLdManifestLoader
+                    .load(JsonLdManifestLoader.JSON_LD_API_BASE, "compact-manifest.jsonld", new ZipResourceLoader())
+                    .stream()
+                    .filter(JsonLdTestCase.IS_NOT_V1_0)
+                    .filter(testCase -> testCase.expectErrorCode == null);
+    }
 }
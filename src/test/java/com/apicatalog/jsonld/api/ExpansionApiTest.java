@@ -20,16 +20,27 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URI;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import com.apicatalog.jsonld.JsonLd;
 import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.loader.ZipResourceLoader;
+import com.apicatalog.jsonld.test.JsonLdManifestLoader;
+import com.apicatalog.jsonld.test.JsonLdTestCase;
 
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonValue;
 
@@ -104,4 +115,38 @@ class ExpansionApiTest {
         ExpansionApi api = JsonLd.expand("file:///example.org").context("file:///example.org");
         assertNotNull(api);
     }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("manifest")
+    void testWriteTo(final JsonLdTestCase testCase) throws JsonLdError {
+
+        final JsonArray expected = JsonLd.expand(testCase.input).options(testCase.getOptions()).get();
+
+        final StringWriter writer = new StringWriter();
+
+        JsonLd.expand(testCase.input).options(testCase.getOptions()).writeTo(writer);
+
+        assertEquals(expected, Json.createReader(new StringReader(writer.toString())).readArray());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("manifest")
+    void testParallel(final JsonLdTestCase testCase) throws JsonLdError {
+
+        final JsonArray expected = JsonLd.expand(testCase.input).options(testCase.getOptions()).get();
+
+        final JsonLdOptions options = testCase.getOptions();
+        options.setExecutor(ForkJoinPool.commonPool());
+        options.setParallelThreshold(1);
+
+        assertEquals(expected, JsonLd.expand(testCase.input).options(options).get());
+    }
+
+    static final Stream<JsonLdTestCase> manifest() throws JsonLdError {
+        return JsonLdManifestLoader
+                    .load(JsonLdManifestLoader.JSON_LD_API_BASE, "expand-manifest.jsonld", new ZipResourceLoader())
+                    .stream()
+                    .filter(JsonLdTestCase.IS_NOT_V1_0)
+                    .filter(testCase -> testCase.expectErrorCode == null);
+    }
 }
@@ -19,8 +19,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringWriter;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,7 +33,12 @@ import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.http.media.MediaType;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.RdfQuadConsumer;
+import com.apicatalog.rdf.io.nquad.NQuadsWriter;
 
+import jakarta.json.Json;
+import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 
 class ToRdfApiTest {
@@ -112,4 +121,56 @@ class ToRdfApiTest {
         assertNotNull(result);
         assertEquals(0, result.size());
     }
+
+    @Test
+    void testOrdered() throws JsonLdError {
+
+        final JsonValue input = Json.createArrayBuilder()
+                .add(Json.createObjectBuilder().add("@id", "https://example.com/b").add("https://example.com/p", "b"))
+                .add(Json.createObjectBuilder().add("@id", "https://example.com/a").add("https://example.com/p", "a"))
+                .build();
+
+        final List<RdfNQuad> ordered = JsonLd.toRdf(JsonDocument.of((JsonStructure) input)).ordered().get().toList();
+        final List<RdfNQuad> unordered = JsonLd.toRdf(JsonDocument.of((JsonStructure) input)).get().toList();
+
+        assertEquals(2, ordered.size());
+        assertEquals("https://example.com/a", ordered.get(0).getSubject().getValue());
+        assertEquals("https://example.com/b", ordered.get(1).getSubject().getValue());
+
+        // node map order
+        assertEquals(2, unordered.size());
+        assertEquals("https://example.com/b", unordered.get(0).getSubject().getValue());
+        assertEquals("https://example.com/a", unordered.get(1).getSubject().getValue());
+    }
+
+    @Test
+    void testProvide() throws JsonLdError, IOException {
+
+        final JsonValue input = Json.createObjectBuilder()
+                .add("@id", "https://example.com/a")
+                .add("https://example.com/p", Json.createArrayBuilder().add("x").add(Json.createObjectBuilder().add("@list", Json.createArrayBuilder().add(1).add(2))))
+                .add("https://example.com/q", Json.createArrayBuilder().add(1).add(Json.createObjectBuilder().add("@value", "1").add("@type", "http://www.w3.org/2001/XMLSchema#integer")))
+                .build();
+
+        final RdfDataset expected = JsonLd.toRdf(JsonDocument.of((JsonStructure) input)).get();
+
+        final List<RdfNQuad> quads = new ArrayList<>();
+        JsonLd.toRdf(JsonDocument.of((JsonStructure) input)).provide(quads::add);
+
+        // 1 and "1"^^xsd:integer produce the same statement
+        assertEquals(expected.size() + 1, quads.size());
+
+        final List<RdfNQuad> distinct = new ArrayList<>();
+        JsonLd.toRdf(JsonDocument.of((JsonStructure) input)).provide(RdfQuadConsumer.distinct(distinct::add));
+
+        assertEquals(expected.toList(), distinct);
+
+        final StringWriter writer = new StringWriter();
+        JsonLd.toRdf(JsonDocument.of((JsonStructure) input)).provide(RdfQuadConsumer.distinct(new NQuadsWriter(writer)));
+
+        final StringWriter expectedWriter = new StringWriter();
+        new NQuadsWriter(expectedWriter).write(expected);
+
+        assertEquals(expectedWriter.toString(), writer.toString());
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.lang.Keywords;
+
+class InverseContextTest {
+
+    @Test
+    void testSetIfAbsent() {
+
+        final InverseContext context = new InverseContext();
+
+        context.setIfAbsent("https://schema.org/name", Keywords.NONE, Keywords.LANGUAGE, "en", "nameEn")
+                .setIfAbsent("https://schema.org/name", Keywords.NONE, Keywords.LANGUAGE, "en", "name")
+                .setIfAbsent("https://schema.org/name", Keywords.NONE, Keywords.LANGUAGE, "de", "nameDe")
+                .setIfAbsent("https://schema.org/name", Keywords.NONE, Keywords.LANGUAGE, "fr", "nameFr")
+                .setIfAbsent("https://schema.org/name", Keywords.SET, Keywords.TYPE, Keywords.ID, "names")
+                .setIfAbsent("https://schema.org/name", Keywords.LANGUAGE, Keywords.ANY, Keywords.NONE, "nameMap");
+
+        // the first term wins
+        assertEquals(Optional.of("nameEn"), context.get("https://schema.org/name", Keywords.NONE, Keywords.LANGUAGE, "en"));
+        assertEquals("nameFr", context.find("https://schema.org/name", Keywords.NONE, Keywords.LANGUAGE, "fr"));
+        assertEquals("names", context.find("https://schema.org/name", Keywords.SET, Keywords.TYPE, Keywords.ID));
+        assertEquals("nameMap", context.find("https://schema.org/name", Keywords.LANGUAGE, Keywords.ANY, Keywords.NONE));
+
+        assertTrue(context.contains("https://schema.org/name"));
+        assertTrue(context.contains("https://schema.org/name", Keywords.SET, Keywords.TYPE));
+        assertTrue(context.contains("https://schema.org/name", Keywords.NONE, Keywords.LANGUAGE, "de"));
+
+        assertFalse(context.contains("https://schema.org/knows"));
+        assertFalse(context.contains("https://schema.org/name", Keywords.SET, Keywords.LANGUAGE));
+        assertFalse(context.contains("https://schema.org/name", Keywords.NONE, Keywords.TYPE, "de"));
+        assertFalse(context.contains("https://schema.org/name", Keywords.NONE, Keywords.LANGUAGE, "cs"));
+
+        assertNull(context.find("https://schema.org/name", Keywords.LIST, Keywords.LANGUAGE, "en"));
+        assertEquals(Optional.empty(), context.get("https://schema.org/knows", Keywords.NONE, Keywords.LANGUAGE, "en"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.apicatalog.jsonld.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTest {
+
+    @Test
+    void testMatch() {
+
+        final Map<String, TermDefinition> terms = new LinkedHashMap<>();
+
+        terms.put("ex", prefix("http://example.org/"));
+        terms.put("exv", prefix("http://example.org/vocab#"));
+        terms.put("name", term("http://example.org/vocab#name"));
+        terms.put("ex2", prefix("http://example.org/"));
+        terms.put("schema", prefix("https://schema.org/"));
+        terms.put("empty", prefix(""));
+
+        final PrefixIndex index = PrefixIndex.of(terms);
+
+        assertEquals(Arrays.asList("ex", "exv", "ex2", "empty"), index.match("http://example.org/vocab#age"));
+        assertEquals(Arrays.asList("ex", "ex2", "empty"), index.match("http://example.org/vocab"));
+        assertEquals(Arrays.asList("schema", "empty"), index.match("https://schema.org/Person"));
+        assertEquals(Arrays.asList("empty"), index.match("https://schema.org/"));
+        assertEquals(Arrays.asList("empty"), index.match("urn:x"));
+        assertTrue(index.match("").isEmpty());
+    }
+
+    private static TermDefinition prefix(String uri) {
+        final TermDefinition definition = term(uri);
+        definition.setPrefix(true);
+        return definition;
+    }
+
+    private static TermDefinition term(String uri) {
+        final TermDefinition definition = new TermDefinition(false, false, false);
+        definition.setUriMapping(uri);
+        return definition;
+    }
+}
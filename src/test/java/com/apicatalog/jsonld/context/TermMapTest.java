@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TermMapTest {
+
+    @Test
+    void testOrder() {
+
+        final TermMap terms = new TermMap();
+        terms.put("a", term("a"));
+        terms.put("b", term("b"));
+        terms.put("c", term("c"));
+
+        final TermMap copy = terms.copy();
+
+        // re-defined term keeps its position
+        copy.put("a", term("a2"));
+
+        // removed and defined again is moved to the end
+        copy.remove("b");
+        copy.put("b", term("b2"));
+
+        copy.put("d", term("d"));
+
+        assertEquals(Arrays.asList("a", "c", "b", "d"), new ArrayList<>(copy.keySet()));
+        assertEquals("a2", copy.get("a").getUriMapping());
+
+        // the origin is not changed
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(terms.keySet()));
+        assertEquals("a", terms.get("a").getUriMapping());
+        assertNull(terms.get("d"));
+    }
+
+    @Test
+    void testOriginChangedAfterCopy() {
+
+        final TermMap terms = new TermMap();
+        final TermDefinition a = term("a");
+        terms.put("a", a);
+
+        final TermMap copy = terms.copy();
+
+        terms.remove("a");
+        terms.put("b", term("b"));
+
+        assertSame(a, copy.get("a"));
+        assertEquals(1, copy.size());
+        assertEquals(Arrays.asList("b"), new ArrayList<>(terms.keySet()));
+    }
+
+    @Test
+    void testRandomOperations() {
+
+        final Random random = new Random(1234);
+
+        final List<TermMap> maps = new ArrayList<>();
+        final List<Map<String, TermDefinition>> expected = new ArrayList<>();
+
+        maps.add(new TermMap());
+        expected.add(new LinkedHashMap<>());
+
+        for (int i = 0; i < 5000; i++) {
+
+            final int index = random.nextInt(maps.size());
+
+            final TermMap map = maps.get(index);
+            final Map<String, TermDefinition> reference = expected.get(index);
+
+            final String key = "t" + random.nextInt(40);
+
+            switch (random.nextInt(5)) {
+            case 0:
+                maps.add(map.copy());
+                expected.add(new LinkedHashMap<>(reference));
+                break;
+
+            case 1:
+                // iterated definitions are kept until the next change
+                assertEquals(new ArrayList<>(reference.entrySet()), new ArrayList<>(map.entrySet()));
+                break;
+
+            case 2:
+                assertSame(reference.remove(key), map.remove(key));
+                break;
+
+            default:
+                final TermDefinition definition = term(key + "-" + i);
+                assertSame(reference.put(key, definition), map.put(key, definition));
+                break;
+            }
+        }
+
+        for (int i = 0; i < maps.size(); i++) {
+            assertEquals(new ArrayList<>(expected.get(i).entrySet()), new ArrayList<>(maps.get(i).entrySet()));
+            assertEquals(expected.get(i).size(), maps.get(i).size());
+        }
+    }
+
+    private static TermDefinition term(String uri) {
+        final TermDefinition definition = new TermDefinition(false, false, false);
+        definition.setUriMapping(uri);
+        return definition;
+    }
+}
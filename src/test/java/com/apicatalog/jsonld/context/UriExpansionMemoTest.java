@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.processor.ProcessingRuntime;
+
+class UriExpansionMemoTest {
+
+    @Test
+    void testGetPut() {
+        final UriExpansionMemo memo = new UriExpansionMemo();
+
+        memo.put("name", 1, "https://example.com/name");
+
+        assertEquals("https://example.com/name", memo.get("name", 1));
+        assertNull(memo.get("name", 3));
+        assertNull(memo.get("type", 1));
+    }
+
+    @Test
+    void testInvalidation() throws JsonLdError {
+
+        final ActiveContext context = new ActiveContext(URI.create("https://example.com/a/"), null, ProcessingRuntime.of(new JsonLdOptions()));
+        context.setVocabularyMapping("https://example.com/vocab#");
+
+        assertEquals("https://example.com/vocab#name", context.uriExpansion().vocab(true).expand("name"));
+
+        // a copy shares the memo until modified
+        final ActiveContext copy = new ActiveContext(context);
+        assertSame(context.getUriExpansionMemo(), copy.getUriExpansionMemo());
+
+        copy.setTerm("name", term("https://schema.org/name"));
+        assertNotSame(context.getUriExpansionMemo(), copy.getUriExpansionMemo());
+
+        assertEquals("https://schema.org/name", copy.uriExpansion().vocab(true).expand("name"));
+        assertEquals("https://example.com/vocab#name", context.uriExpansion().vocab(true).expand("name"));
+
+        copy.setVocabularyMapping(null);
+        copy.setBaseUri(URI.create("https://example.com/b/"));
+        assertEquals("https://example.com/b/c", copy.uriExpansion().documentRelative(true).expand("c"));
+        assertEquals("https://example.com/a/c", context.uriExpansion().documentRelative(true).expand("c"));
+    }
+
+    private static TermDefinition term(String uri) {
+        final TermDefinition definition = new TermDefinition(false, false, false);
+        definition.setUriMapping(uri);
+        return definition;
+    }
+}
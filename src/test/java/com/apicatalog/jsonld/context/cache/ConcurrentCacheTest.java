@@ -0,0 +1,210 @@
+package com.apicatalog.jsonld.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+
+class ConcurrentCacheTest {
+
+    @Test
+    void testGetPut() {
+        final ConcurrentCache<String, String> cache = new ConcurrentCache<>(10);
+
+        assertNull(cache.get("a"));
+        assertFalse(cache.containsKey("a"));
+
+        cache.put("a", "A");
+
+        assertTrue(cache.containsKey("a"));
+        assertEquals("A", cache.get("a"));
+
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testMaximumSize() {
+        final ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(2);
+
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    void testProtectedEntry() {
+        final ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(5);
+
+        cache.put(1, 1);
+        // promote the entry
+        assertEquals(1, cache.get(1));
+
+        // scan
+        for (int i = 2; i < 100; i++) {
+            cache.put(i, i);
+        }
+
+        assertEquals(1, cache.get(1));
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    void testMaximumWeight() {
+        final ConcurrentCache<String, String> cache = ConcurrentCache.<String, String>newBuilder()
+                .maximumWeight(10, (key, value) -> value.length())
+                .build();
+
+        cache.put("a", "1234");
+        cache.put("b", "1234");
+        assertEquals(8, cache.weight());
+
+        cache.put("c", "1234");
+        assertEquals(8, cache.weight());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void testExpiration() {
+        final AtomicLong time = new AtomicLong(1);
+
+        final ConcurrentCache<String, String> cache = ConcurrentCache.<String, String>newBuilder()
+                .expireAfterWrite(Duration.ofNanos(10))
+                .clock(time::get)
+                .build();
+
+        cache.put("a", "A");
+        time.addAndGet(9);
+        assertEquals("A", cache.get("a"));
+
+        time.addAndGet(1);
+        assertFalse(cache.containsKey("a"));
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.evictionCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testLoad() throws JsonLdError {
+        final ConcurrentCache<String, String> cache = new ConcurrentCache<>(10);
+
+        assertEquals("A", cache.get("a", key -> "A"));
+        assertEquals("A", cache.get("a", key -> "B"));
+
+        assertNull(cache.get("b", key -> null));
+        assertFalse(cache.containsKey("b"));
+    }
+
+    @Test
+    void testLoadError() {
+        final ConcurrentCache<String, String> cache = new ConcurrentCache<>(10);
+
+        final JsonLdError error = assertThrows(JsonLdError.class, () -> cache.get("a", key -> {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED);
+        }));
+
+        assertEquals(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, error.getCode());
+        assertFalse(cache.containsKey("a"));
+    }
+
+    @Test
+    void testSingleFlight() throws Exception {
+        final ConcurrentCache<String, Object> cache = new ConcurrentCache<>(10);
+
+        final int threads = 8;
+
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Object value = new Object();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final List<Future<Object>> results = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("key", key -> {
+                        loads.incrementAndGet();
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return value;
+                    });
+                }));
+            }
+
+            start.countDown();
+
+            for (final Future<Object> result : results) {
+                assertSame(value, result.get(10, TimeUnit.SECONDS));
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        final ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(64);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        final Integer key = i % 200;
+                        final Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else {
+                            assertEquals(key, value);
+                        }
+                    }
+                }));
+            }
+
+            for (final Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(cache.size() <= 64);
+        assertEquals(40000, cache.hitCount() + cache.missCount());
+    }
+}
@@ -16,13 +16,22 @@
 package com.apicatalog.jsonld.custom;
 
 import static java.time.Duration.ofMinutes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -30,11 +39,14 @@ import org.junit.jupiter.api.Test;
 import com.apicatalog.jsonld.JsonLd;
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.cache.LruCache;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.document.RdfDocument;
 import com.apicatalog.jsonld.json.JsonLdComparison;
+import com.apicatalog.jsonld.json.JsonProvider;
 import com.apicatalog.jsonld.loader.ClasspathLoader;
+import com.apicatalog.jsonld.loader.DocumentLoader;
 import com.apicatalog.rdf.RdfComparison;
 import com.apicatalog.rdf.RdfDataset;
 
@@ -119,6 +131,113 @@ class RemoteContextTest {
         }
     }
 
+    @Test
+    void testActiveContextCache() throws JsonLdError, IOException {
+
+        final AtomicInteger loaded = new AtomicInteger();
+
+        final DocumentLoader loader = new ClasspathLoader();
+
+        final JsonLdOptions options = new JsonLdOptions((url, loaderOptions) -> {
+            loaded.incrementAndGet();
+            return loader.loadDocument(url, loaderOptions);
+        });
+        options.setActiveContextCache(new LruCache<>(10));
+
+        final Document document = readDocument("/com/apicatalog/jsonld/test/issue63-in.json");
+
+        final RdfDataset expected;
+
+        try (final InputStream is = getClass().getResourceAsStream("/com/apicatalog/jsonld/test/issue63-out.nq")) {
+            assertNotNull(is);
+            expected = RdfDocument.of(is).getRdfContent().orElse(null);
+        }
+
+        for (int i = 0; i < 3; i++) {
+
+            final RdfDataset result = JsonLd.toRdf(document).options(options).get();
+
+            assertNotNull(result);
+            assertTrue(RdfComparison.equals(result, expected));
+        }
+
+        assertEquals(1, loaded.get());
+        assertEquals(1, ((LruCache<?, ?>) options.getActiveContextCache()).size());
+    }
+
+    @Test
+    void testActiveContextCacheBase() throws JsonLdError {
+
+        final JsonLdOptions options = new JsonLdOptions(new ClasspathLoader());
+        options.setActiveContextCache(new LruCache<>(10));
+
+        final Document document = JsonDocument.of(JsonProvider.instance().createObjectBuilder()
+                .add("@context", "classpath:/com/apicatalog/jsonld/test/issue63-context.json")
+                .add("test", "value")
+                .build());
+
+        options.setBase(URI.create("https://example.org/a/"));
+        final JsonArray result1 = JsonLd.expand(document).options(options).get();
+
+        options.setBase(URI.create("https://example.org/b/"));
+        final JsonArray result2 = JsonLd.expand(document).options(options).get();
+
+        assertTrue(JsonLdComparison.equals(result1, result2));
+        assertEquals(2, ((LruCache<?, ?>) options.getActiveContextCache()).size());
+    }
+
+    @Test
+    void testConcurrentContextLoad() throws Exception {
+
+        final AtomicInteger loaded = new AtomicInteger();
+
+        final DocumentLoader loader = new ClasspathLoader();
+
+        final JsonLdOptions options = new JsonLdOptions((url, loaderOptions) -> {
+            loaded.incrementAndGet();
+            try {
+                // let the other threads miss the context meanwhile
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader.loadDocument(url, loaderOptions);
+        });
+
+        final Document document = JsonDocument.of(JsonProvider.instance().createObjectBuilder()
+                .add("@context", "classpath:/com/apicatalog/jsonld/test/issue63-context.json")
+                .add("test", "value")
+                .build());
+
+        final int threads = 8;
+
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final List<Future<JsonArray>> results = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return JsonLd.expand(document).options(options).get();
+                }));
+            }
+
+            final JsonArray expected = results.get(0).get();
+
+            for (final Future<JsonArray> result : results) {
+                assertTrue(JsonLdComparison.equals(expected, result.get()));
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, loaded.get());
+    }
+
     /**
      * @see <a href="https://github.com/filip26/titanium-json-ld/issues/62">Issue #62</a>
      *
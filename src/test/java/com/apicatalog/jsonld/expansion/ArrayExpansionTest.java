@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.expansion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+class ArrayExpansionTest {
+
+    static final JsonObject CONTEXT = Json.createObjectBuilder()
+            .add("ex", "https://example.com/")
+            .add("name", "ex:name")
+            .add("knows", Json.createObjectBuilder().add("@id", "ex:knows").add("@type", "@id"))
+            .build();
+
+    @Test
+    void testParallelArray() throws JsonLdError {
+
+        final JsonArray input = entities(5000, -1, -1);
+
+        assertEquals(
+                JsonLd.expand(JsonDocument.of(input)).get(),
+                JsonLd.expand(JsonDocument.of(input)).options(parallel()).get());
+    }
+
+    @Test
+    void testParallelGraph() throws JsonLdError {
+
+        final JsonObject input = Json.createObjectBuilder()
+                .add("@context", CONTEXT)
+                .add("@id", "https://example.com/graph")
+                .add("@graph", entities(5000, -1, -1))
+                .build();
+
+        assertEquals(
+                JsonLd.expand(JsonDocument.of(input)).get(),
+                JsonLd.expand(JsonDocument.of(input)).options(parallel()).get());
+    }
+
+    @Test
+    void testFirstError() {
+
+        // an invalid @type follows an invalid @id
+        final JsonArray input = entities(5000, 100, 4900);
+
+        final JsonLdError sequential = assertThrows(JsonLdError.class,
+                () -> JsonLd.expand(JsonDocument.of(input)).get());
+
+        final JsonLdError parallel = assertThrows(JsonLdError.class,
+                () -> JsonLd.expand(JsonDocument.of(input)).options(parallel()).get());
+
+        assertEquals(JsonLdErrorCode.INVALID_KEYWORD_ID_VALUE, sequential.getCode());
+        assertEquals(sequential.getCode(), parallel.getCode());
+    }
+
+    @Test
+    void testTimeout() {
+
+        final JsonLdOptions options = parallel();
+        options.setTimeout(Duration.ofNanos(1));
+
+        final JsonLdError error = assertThrows(JsonLdError.class,
+                () -> JsonLd.expand(JsonDocument.of(entities(5000, -1, -1))).options(options).get());
+
+        assertEquals(JsonLdErrorCode.PROCESSING_TIMEOUT_EXCEEDED, error.getCode());
+    }
+
+    static final JsonLdOptions parallel() {
+        final JsonLdOptions options = new JsonLdOptions();
+        options.setExecutor(ForkJoinPool.commonPool());
+        options.setParallelThreshold(100);
+        return options;
+    }
+
+    static final JsonArray entities(int count, int invalidId, int invalidType) {
+
+        final JsonArrayBuilder entities = Json.createArrayBuilder();
+
+        for (int i = 0; i < count; i++) {
+            entities.add(Json.createObjectBuilder()
+                    .add("@context", CONTEXT)
+                    .add("@id", i == invalidId ? Json.createValue(i) : Json.createValue("ex:" + i))
+                    .add("@type", i == invalidType ? Json.createValue(i) : Json.createValue("ex:Entity"))
+                    .add("name", "Entity " + i)
+                    .add("knows", i > 0 ? "ex:" + (i - 1) : "ex:none")
+                    .add("ex:tags", Json.createArrayBuilder().add("a").add(JsonValue.NULL).add("b")));
+        }
+
+        return entities.build();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.flattening;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.ZipResourceLoader;
+import com.apicatalog.jsonld.test.JsonLdManifestLoader;
+import com.apicatalog.jsonld.test.JsonLdTestCase;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+
+class ParallelNodeMapBuilderTest {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("manifest")
+    void testNodeMap(final JsonLdTestCase testCase) throws JsonLdError {
+
+        final JsonLdOptions options = testCase.getOptions();
+        options.setOrdered(false);
+
+        final JsonArray expanded;
+
+        try {
+            expanded = JsonLd.expand(testCase.input).options(options).get();
+
+        } catch (JsonLdError e) {
+            // a test case expecting an error when transformed to RDF
+            assumeTrue(false, e.getMessage());
+            return;
+        }
+
+        final NodeMap expected = NodeMapBuilder.with(expanded, new NodeMap()).build();
+
+        final NodeMap nodeMap = ParallelNodeMapBuilder.build(expanded, ForkJoinPool.commonPool());
+
+        assertEquals(expected.toString(), nodeMap.toString());
+        assertEquals(expected.createIdentifier(), nodeMap.createIdentifier());
+    }
+
+    @Test
+    void testFlatten() throws JsonLdError {
+
+        final JsonArray input = blankNodes(new Random(1234), 5000);
+
+        final JsonLdOptions options = new JsonLdOptions();
+        options.setExecutor(ForkJoinPool.commonPool());
+        options.setParallelThreshold(100);
+
+        assertEquals(
+                JsonLd.flatten(JsonDocument.of(input)).get().toString(),
+                JsonLd.flatten(JsonDocument.of(input)).options(options).get().toString());
+    }
+
+    @Test
+    void testConflictingIndexes() {
+
+        final JsonArrayBuilder input = Json.createArrayBuilder();
+
+        for (int i = 0; i < 1000; i++) {
+            input.add(Json.createObjectBuilder()
+                    .add("@id", i == 0 || i == 999 ? "_:conflict" : "_:n" + i)
+                    .add("@index", "i" + i));
+        }
+
+        final JsonLdError error = assertThrows(JsonLdError.class,
+                () -> ParallelNodeMapBuilder.build(input.build(), ForkJoinPool.commonPool()));
+
+        assertEquals(JsonLdErrorCode.CONFLICTING_INDEXES, error.getCode());
+    }
+
+    // nodes referencing labeled and anonymous blank nodes across the array
+    static final JsonArray blankNodes(final Random random, final int count) {
+
+        final JsonArrayBuilder nodes = Json.createArrayBuilder();
+
+        for (int i = 0; i < count; i++) {
+
+            final JsonObjectBuilder node = Json.createObjectBuilder()
+                    .add("https://example.com/knows", Json.createArrayBuilder()
+                            .add(Json.createObjectBuilder().add("@id", "_:n" + random.nextInt(count)))
+                            .add(Json.createObjectBuilder()
+                                    .add("https://example.com/name", Json.createArrayBuilder()
+                                            .add(Json.createObjectBuilder().add("@value", "anonymous " + i)))))
+                    .add("https://example.com/tags", Json.createArrayBuilder()
+                            .add(Json.createObjectBuilder().add("@list", Json.createArrayBuilder()
+                                    .add(Json.createObjectBuilder().add("@value", random.nextInt(10)))
+                                    .add(Json.createObjectBuilder().add("@id", "_:t" + random.nextInt(10))))));
+
+            if (random.nextInt(4) > 0) {
+                node.add("@id", "_:n" + random.nextInt(count));
+            }
+            if (random.nextBoolean()) {
+                node.add("@type", Json.createArrayBuilder().add("_:type" + random.nextInt(5)).add("https://example.com/Node"));
+            }
+
+            nodes.add(node);
+        }
+
+        return nodes.build();
+    }
+
+    static final Stream<JsonLdTestCase> manifest() throws JsonLdError {
+        return Stream.concat(
+                    JsonLdManifestLoader
+                        .load(JsonLdManifestLoader.JSON_LD_API_BASE, "flatten-manifest.jsonld", new ZipResourceLoader())
+                        .stream(),
+                    JsonLdManifestLoader
+                        .load(JsonLdManifestLoader.JSON_LD_API_BASE, "toRdf-manifest.jsonld", new ZipResourceLoader())
+                        .stream())
+                .filter(JsonLdTestCase.IS_NOT_V1_0)
+                .filter(testCase -> testCase.expectErrorCode == null);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.framing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.flattening.NodeMap;
+import com.apicatalog.jsonld.flattening.NodeMapBuilder;
+import com.apicatalog.jsonld.lang.Keywords;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+class FrameMatcherTest {
+
+    @Test
+    void testIndexedMatch() throws JsonLdError {
+
+        final Random random = new Random(1234);
+
+        for (int i = 0; i < 200; i++) {
+
+            final JsonArrayBuilder nodes = Json.createArrayBuilder();
+
+            for (int j = 0; j < 50; j++) {
+
+                final JsonObjectBuilder node = Json.createObjectBuilder().add(Keywords.ID, "urn:n" + j);
+
+                if (random.nextBoolean()) {
+                    node.add(Keywords.TYPE, Json.createArrayBuilder().add("urn:T" + random.nextInt(4)));
+                }
+
+                for (int k = 0; k < 3; k++) {
+                    if (random.nextBoolean()) {
+                        node.add("urn:p" + k, Json.createArrayBuilder().add(Json.createObjectBuilder().add(Keywords.VALUE, random.nextInt(3))));
+                    }
+                }
+                nodes.add(node);
+            }
+
+            final FramingState state = new FramingState();
+            state.setGraphMap(NodeMapBuilder.with(nodes.build(), new NodeMap()).build());
+            state.setGraphName(Keywords.DEFAULT);
+
+            final Frame frame = Frame.of(randomFrame(random));
+
+            final List<String> subjects = new ArrayList<>(state.getGraphMap().subjects(Keywords.DEFAULT));
+
+            // a part of the graph in a different order
+            final List<String> part = new ArrayList<>(subjects.subList(10, 30));
+            part.add(subjects.get(0));
+
+            for (final boolean requireAll : new boolean[] { true, false }) {
+
+                final FrameMatcher matcher = FrameMatcher.with(state, frame, requireAll);
+
+                assertEquals(matchEach(matcher, state, subjects), matcher.match(subjects), frame.toString());
+                assertEquals(matchEach(matcher, state, part), matcher.match(part), frame.toString());
+            }
+        }
+    }
+
+    static final List<String> matchEach(final FrameMatcher matcher, final FramingState state, final List<String> subjects) throws JsonLdError {
+
+        final List<String> result = new ArrayList<>();
+
+        for (final String subject : subjects) {
+            if (matcher.match(state.getGraphMap().get(Keywords.DEFAULT, subject))) {
+                result.add(subject);
+            }
+        }
+        return result;
+    }
+
+    static final JsonObject randomFrame(final Random random) {
+
+        final JsonObjectBuilder frame = Json.createObjectBuilder();
+
+        final List<Runnable> entries = new ArrayList<>();
+
+        entries.add(() -> {
+            switch (random.nextInt(4)) {
+            case 0:
+                frame.add(Keywords.TYPE, Json.createArrayBuilder().add("urn:T" + random.nextInt(4)).add("urn:T" + random.nextInt(4)));
+                break;
+            case 1:
+                frame.add(Keywords.TYPE, Json.createArrayBuilder().add(Json.createObjectBuilder()));
+                break;
+            case 2:
+                frame.add(Keywords.TYPE, Json.createArrayBuilder());
+                break;
+            default:
+                break;
+            }
+        });
+
+        entries.add(() -> {
+            if (random.nextInt(3) == 0) {
+                frame.add(Keywords.ID, Json.createArrayBuilder().add("urn:n" + random.nextInt(60)).add("urn:n" + random.nextInt(60)));
+            }
+        });
+
+        for (int k = 0; k < 3; k++) {
+            final String property = "urn:p" + k;
+            entries.add(() -> {
+                switch (random.nextInt(4)) {
+                case 0:
+                    frame.add(property, Json.createArrayBuilder().add(Json.createObjectBuilder()));
+                    break;
+                case 1:
+                    frame.add(property, Json.createArrayBuilder());
+                    break;
+                case 2:
+                    frame.add(property, Json.createArrayBuilder().add(Json.createObjectBuilder().add(Keywords.VALUE, random.nextInt(3))));
+                    break;
+                default:
+                    break;
+                }
+            });
+        }
+
+        // the entries order matters if not all entries are required
+        while (!entries.isEmpty()) {
+            entries.remove(random.nextInt(entries.size())).run();
+        }
+
+        return frame.build();
+    }
+}
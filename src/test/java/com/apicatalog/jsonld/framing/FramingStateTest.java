@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.framing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.flattening.NodeMap;
+import com.apicatalog.jsonld.flattening.NodeMapBuilder;
+import com.apicatalog.jsonld.lang.Keywords;
+
+import jakarta.json.Json;
+
+class FramingStateTest {
+
+    @Test
+    void testReferencingSubjects() throws JsonLdError {
+
+        final NodeMap nodeMap = NodeMapBuilder.with(Json.createReader(new StringReader("["
+                + "{\"@id\":\"urn:c\",\"urn:p\":[{\"@id\":\"urn:a\"},{\"@id\":\"urn:a\"}]},"
+                + "{\"@id\":\"urn:b\",\"urn:p\":[{\"@id\":\"urn:a\"}],\"urn:q\":[{\"@id\":\"urn:a\"},{\"@value\":\"urn:a\"}]},"
+                + "{\"@id\":\"urn:g\",\"@graph\":[{\"@id\":\"urn:d\",\"urn:p\":[{\"@id\":\"urn:a\"}]}]}"
+                + "]")).readArray(), new NodeMap()).build();
+
+        final FramingState state = new FramingState();
+        state.setGraphMap(nodeMap);
+        state.setGraphName(Keywords.DEFAULT);
+
+        assertEquals(Arrays.asList("urn:c", "urn:b"), state.getReferencingSubjects("urn:a", "urn:p"));
+        assertEquals(Arrays.asList("urn:b"), state.getReferencingSubjects("urn:a", "urn:q"));
+        assertTrue(state.getReferencingSubjects("urn:b", "urn:p").isEmpty());
+
+        // the index is shared by copies and kept per graph
+        final FramingState copy = new FramingState(state);
+        copy.setGraphName("urn:g");
+
+        assertEquals(Arrays.asList("urn:d"), copy.getReferencingSubjects("urn:a", "urn:p"));
+        assertTrue(copy.getReferencingSubjects("urn:a", "urn:q").isEmpty());
+        assertTrue(state.getReferencingSubjects("urn:a", "urn:unknown").isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+class JsonMapBuilderTest {
+
+    @Test
+    void testBuild() {
+
+        final JsonMapBuilder builder = JsonMapBuilder.create();
+        builder.put("a", Json.createValue("x"));
+        builder.add("b", Json.createValue(1));
+        builder.add("b", Json.createValue(2));
+        builder.getMapBuilder("c").put("d", JsonValue.TRUE);
+
+        final JsonObject object = builder.build();
+
+        final JsonObject expected = Json.createObjectBuilder()
+                .add("a", "x")
+                .add("b", Json.createArrayBuilder().add(1).add(2))
+                .add("c", Json.createObjectBuilder().add("d", true))
+                .build();
+
+        assertEquals(expected, object);
+        assertEquals(object, expected);
+        assertEquals(expected.hashCode(), object.hashCode());
+        assertEquals(expected.toString(), object.toString());
+
+        assertEquals("x", object.getString("a"));
+        assertEquals(2, object.getJsonArray("b").getInt(1));
+        assertEquals(true, object.getJsonObject("c").getBoolean("d"));
+
+        // a built object is read-only
+        assertThrows(UnsupportedOperationException.class, () -> object.put("e", JsonValue.NULL));
+    }
+
+    @Test
+    void testChangeAfterBuild() {
+
+        final JsonMapBuilder builder = JsonMapBuilder.create();
+        builder.put("a", Json.createValue("x"));
+
+        final JsonObject object = builder.build();
+
+        builder.put("b", Json.createValue("y"));
+        builder.remove("a");
+
+        assertEquals(Json.createObjectBuilder().add("a", "x").build(), object);
+        assertEquals(Json.createObjectBuilder().add("b", "y").build(), builder.build());
+    }
+
+    @Test
+    void testUnchanged() {
+
+        final JsonObject object = Json.createObjectBuilder().add("a", "x").build();
+
+        assertSame(object, JsonMapBuilder.create(object).build());
+
+        final JsonMapBuilder builder = JsonMapBuilder.create(object);
+        builder.put("b", JsonValue.NULL);
+
+        assertEquals(Json.createObjectBuilder().add("a", "x").add("b", JsonValue.NULL).build(), builder.build());
+        assertEquals(1, object.size());
+    }
+}
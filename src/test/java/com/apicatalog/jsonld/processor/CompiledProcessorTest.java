@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+class CompiledProcessorTest {
+
+    static final JsonObject CONTEXT = Json.createObjectBuilder()
+            .add("@context", Json.createObjectBuilder()
+                    .add("ex", "https://example.com/")
+                    .add("name", "ex:name")
+                    .add("knows", Json.createObjectBuilder().add("@id", "ex:knows").add("@type", "@id")))
+            .build();
+
+    static final JsonObject INPUT = Json.createObjectBuilder()
+            .add("@id", "https://example.com/a")
+            .add("name", "A")
+            .add("knows", "https://example.com/b")
+            .build();
+
+    @Test
+    void testExpandCompactToRdf() throws JsonLdError {
+
+        final JsonLdOptions options = new JsonLdOptions();
+        options.setExpandContext(JsonDocument.of(CONTEXT));
+
+        final CompiledProcessor processor = CompiledProcessor.of(options, JsonDocument.of(CONTEXT));
+
+        final Document input = JsonDocument.of(INPUT);
+
+        assertEquals(
+                JsonLd.expand(input).context(JsonDocument.of(CONTEXT)).get(),
+                processor.expand(input));
+
+        assertEquals(
+                JsonLd.compact(input, JsonDocument.of(CONTEXT)).options(options).get(),
+                processor.compact(input));
+
+        assertEquals(
+                JsonLd.toRdf(input).context(JsonDocument.of(CONTEXT)).get().toList(),
+                processor.toRdf(input).toList());
+
+        // changes made after compilation have no effect
+        options.setExpandContext((Document) null);
+
+        assertEquals(
+                JsonLd.expand(input).context(JsonDocument.of(CONTEXT)).get(),
+                processor.expand(input));
+    }
+
+    @Test
+    void testConcurrentCompaction() throws Exception {
+
+        final CompiledProcessor processor = CompiledProcessor.of(new JsonLdOptions(), JsonDocument.of(CONTEXT));
+
+        final JsonObject expected = JsonLd.compact(JsonDocument.of(expandedInput()), JsonDocument.of(CONTEXT)).get();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<JsonObject>> results = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> processor.compact(JsonDocument.of(expandedInput()))));
+            }
+
+            for (final Future<JsonObject> result : results) {
+                assertEquals(expected, result.get());
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testNoCompactionContext() throws JsonLdError {
+        final CompiledProcessor processor = CompiledProcessor.of(new JsonLdOptions());
+        assertThrows(IllegalStateException.class, () -> processor.compact(JsonDocument.of(INPUT)));
+    }
+
+    static final JsonObject expandedInput() {
+        return Json.createObjectBuilder()
+                .add("@id", "https://example.com/a")
+                .add("https://example.com/name", "A")
+                .add("https://example.com/knows", Json.createObjectBuilder().add("@id", "https://example.com/b"))
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.loader.ZipResourceLoader;
+import com.apicatalog.jsonld.test.JsonLdManifestLoader;
+import com.apicatalog.jsonld.test.JsonLdTestCase;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+class PreparedFrameTest {
+
+    static final JsonObject FRAME = Json.createObjectBuilder()
+            .add("@context", Json.createObjectBuilder()
+                    .add("ex", "https://example.com/")
+                    .add("knows", Json.createObjectBuilder().add("@id", "ex:knows").add("@type", "@id")))
+            .add("@type", "ex:Person")
+            .build();
+
+    static final JsonObject INPUT = Json.createObjectBuilder()
+            .add("@context", Json.createObjectBuilder().add("ex", "https://example.com/"))
+            .add("@graph", Json.createArrayBuilder()
+                    .add(Json.createObjectBuilder().add("@id", "ex:a").add("@type", "ex:Person").add("ex:knows", Json.createObjectBuilder().add("@id", "ex:b")))
+                    .add(Json.createObjectBuilder().add("@id", "ex:b").add("@type", "ex:Person"))
+                    .add(Json.createObjectBuilder().add("@id", "ex:c").add("@type", "ex:Place")))
+            .build();
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("frameManifest")
+    void testFrame(final JsonLdTestCase testCase) throws JsonLdError {
+
+        final JsonLdOptions options = testCase.getOptions();
+
+        final JsonObject expected = JsonLd.frame(testCase.input, testCase.frame).options(options).get();
+
+        final DocumentLoaderOptions loaderOptions = new DocumentLoaderOptions();
+        loaderOptions.setExtractAllScripts(options.isExtractAllScripts());
+
+        final Document input = options.getDocumentLoader().loadDocument(testCase.input, loaderOptions);
+
+        final PreparedFrame frame = PreparedFrame.of(options.getDocumentLoader().loadDocument(testCase.frame, new DocumentLoaderOptions()), options);
+
+        assertEquals(expected, frame.frame(input));
+        assertEquals(expected, frame.frame(input));
+    }
+
+    @Test
+    void testConcurrentFraming() throws Exception {
+
+        final PreparedFrame frame = PreparedFrame.of(JsonDocument.of(FRAME), new JsonLdOptions());
+
+        final JsonObject expected = JsonLd.frame(JsonDocument.of(INPUT), JsonDocument.of(FRAME)).get();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<JsonObject>> results = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> frame.frame(JsonDocument.of(INPUT))));
+            }
+
+            for (final Future<JsonObject> result : results) {
+                assertEquals(expected, result.get());
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static final Stream<JsonLdTestCase> frameManifest() throws JsonLdError {
+        return JsonLdManifestLoader
+                    .load(JsonLdManifestLoader.JSON_LD_FRAMING_BASE, "frame-manifest.jsonld", new ZipResourceLoader())
+                    .stream()
+                    .filter(JsonLdTestCase.IS_NOT_V1_0)
+                    .filter(testCase -> testCase.expectErrorCode == null)
+                    // @embed: @last - won't fix
+                    .filter(testCase -> !"#t0059".equals(testCase.id));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.loader.ZipResourceLoader;
+import com.apicatalog.jsonld.test.JsonLdManifestLoader;
+import com.apicatalog.jsonld.test.JsonLdTestCase;
+import com.apicatalog.rdf.Rdf;
+import com.apicatalog.rdf.RdfComparison;
+import com.apicatalog.rdf.RdfDataset;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonStructure;
+
+class StreamingProcessorTest {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("expandManifest")
+    void testExpand(final JsonLdTestCase testCase) throws JsonLdError {
+
+        final JsonLdOptions options = testCase.getOptions();
+
+        final Document document = options.getDocumentLoader().loadDocument(testCase.input, new DocumentLoaderOptions());
+
+        assumeTrue(document.getContextUrl() == null && document.getJsonContent().isPresent());
+        assumeTrue(options.getBase() == null || options.getBase().equals(document.getDocumentUrl()));
+
+        final JsonArray expected = JsonLd.expand(testCase.input).options(options).get();
+
+        options.setBase(document.getDocumentUrl());
+
+        assertEquals(expected, expand(document.getJsonContent().get(), options));
+    }
+
+    @Test
+    void testGraph() throws JsonLdError {
+
+        final String input = "{\"@context\":{\"ex\":\"https://example.com/\",\"items\":\"@graph\"},"
+                + "\"items\":[{\"@id\":\"ex:a\",\"ex:p\":1},\"free\",{\"@value\":1},[{\"@id\":\"ex:b\",\"ex:p\":2}]]}";
+
+        assertEquals(JsonLd.expand(JsonDocument.of(stream(input))).get(), expand(input));
+    }
+
+    @Test
+    void testNotStreamedObject() throws JsonLdError {
+
+        final String input = "{\"@context\":{\"ex\":\"https://example.com/\"},\"@id\":\"ex:g\","
+                + "\"@graph\":[{\"@id\":\"ex:a\",\"ex:p\":1}]}";
+
+        assertEquals(JsonLd.expand(JsonDocument.of(stream(input))).get(), expand(input));
+    }
+
+    @Test
+    void testEntryAfterGraph() {
+
+        final String input = "{\"@context\":{\"ex\":\"https://example.com/\"},"
+                + "\"@graph\":[{\"@id\":\"ex:a\"}],\"@id\":\"ex:g\"}";
+
+        assertThrows(JsonLdError.class, () -> expand(input));
+    }
+
+    @Test
+    void testIgnoredEntryAfterGraph() throws JsonLdError {
+
+        final String input = "{\"@context\":{\"ex\":\"https://example.com/\"},"
+                + "\"@graph\":[{\"@id\":\"ex:a\",\"ex:p\":1}],\"comment\":{\"text\":\"ignored\"}}";
+
+        assertEquals(JsonLd.expand(JsonDocument.of(stream(input))).get(), expand(input));
+    }
+
+    @Test
+    void testContextAfterGraph() throws JsonLdError {
+
+        final String input = "{\"@graph\":[{\"@id\":\"https://example.com/a\",\"name\":\"A\"}],"
+                + "\"@context\":{\"@vocab\":\"https://example.com/\"}}";
+
+        final JsonArray expected = JsonLd.expand(JsonDocument.of(stream(input))).get();
+
+        assertEquals(1, expected.size());
+        assertEquals(expected, expand(input));
+    }
+
+    @Test
+    void testCompactedRoundTrip() throws JsonLdError {
+
+        final String input = "[{\"@id\":\"https://example.com/a\",\"https://example.com/name\":\"A\"},"
+                + "{\"@id\":\"https://example.com/b\",\"https://example.com/knows\":{\"@id\":\"https://example.com/a\"}}]";
+
+        final JsonObject compacted = JsonLd.compact(
+                    JsonDocument.of(stream(input)),
+                    JsonDocument.of(stream("{\"@context\":{\"@vocab\":\"https://example.com/\"}}")))
+                .get();
+
+assertEquals(JsonLd.expand(JsonDocument.of(stream(input))).get(), expand(compacted.toString()));
+    }
+
+    @Test
+    void testToRdf() throws JsonLdError {
+
+        final String input = "[{\"@context\":{\"ex\":\"https://example.com/\"},\"@id\":\"_:x\","
+                + "\"ex:list\":{\"@list\":[1,2]},\"ex:p\":{\"ex:q\":\"v\"}},"
+                + "{\"@id\":\"https://example.com/a\",\"https://example.com/ref\":{\"@id\":\"_:x\"}}]";
+
+        final RdfDataset expected = JsonLd.toRdf(JsonDocument.of(stream(input))).get();
+
+        final RdfDataset dataset = Rdf.createDataset();
+
+        StreamingProcessor.toRdf(stream(input), new JsonLdOptions(), dataset::add);
+
+        assertEquals(expected.size(), dataset.size());
+        assertTrue(RdfComparison.equals(expected, dataset));
+    }
+
+    static final Stream<JsonLdTestCase> expandManifest() throws JsonLdError {
+        return JsonLdManifestLoader
+                    .load(JsonLdManifestLoader.JSON_LD_API_BASE, "expand-manifest.jsonld", new ZipResourceLoader())
+                    .stream()
+                    .filter(JsonLdTestCase.IS_NOT_V1_0)
+                    .filter(testCase -> testCase.expectErrorCode == null);
+    }
+
+    static final JsonArray expand(final String input) throws JsonLdError {
+        return expand(stream(input), new JsonLdOptions());
+    }
+
+    static final JsonArray expand(final JsonStructure input, final JsonLdOptions options) throws JsonLdError {
+        return expand(stream(input.toString()), options);
+    }
+
+    static final JsonArray expand(final InputStream input, final JsonLdOptions options) throws JsonLdError {
+        final JsonArrayBuilder result = Json.createArrayBuilder();
+        StreamingProcessor.expand(input, options, result::add);
+        return result.build();
+    }
+
+    static final InputStream stream(final String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.uri;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BaseUriTest {
+
+    @ParameterizedTest(name = "resolve({0}, {1}) to {2}")
+    @MethodSource("resolveData")
+    void testResolve(final String base, String relative, String expected) {
+        final BaseUri baseUri = BaseUri.of(URI.create(base));
+        assertEquals(expected, baseUri.resolve(relative));
+        // memoized
+        assertEquals(expected, baseUri.resolve(relative));
+    }
+
+    @ParameterizedTest(name = "relativize({0}, {2}) to {1}")
+    @MethodSource("relativizeData")
+    void testRelativize(final String base, String expected, String url) {
+        final BaseUri baseUri = BaseUri.of(URI.create(base));
+        assertEquals(expected, baseUri.relativize(url));
+        // memoized
+        assertEquals(expected, baseUri.relativize(url));
+    }
+
+    @Test
+    void testDelegated() {
+        final URI base = URI.create("http://x/y/z?q#f");
+        final BaseUri baseUri = BaseUri.of(base);
+
+        // percent-encoded and non-ASCII references are processed by URI
+        assertEquals(UriResolver.resolve(base, "a%20b/../c?d%2Fe"), baseUri.resolve("a%20b/../c?d%2Fe"));
+        assertEquals(UriResolver.resolve(base, "é"), baseUri.resolve("é"));
+        assertEquals(UriRelativizer.relativize(base, "http://x/y/a%20b"), baseUri.relativize("http://x/y/a%20b"));
+        assertEquals(UriRelativizer.relativize(base, "urn:x:y"), baseUri.relativize("urn:x:y"));
+    }
+
+    static final Stream<Arguments> resolveData() {
+        return UriResolverTest.data();
+    }
+
+    static final Stream<Arguments> relativizeData() {
+        return UriRelativizerTest.data();
+    }
+}
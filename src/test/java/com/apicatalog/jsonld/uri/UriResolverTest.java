@@ -33,6 +33,29 @@ class UriResolverTest {
         assertEquals(expected, UriResolver.resolve(URI.create(base), relative));
     }
 
+    @ParameterizedTest(name = "removeDotSegments({0}) to {1}")
+    @MethodSource("dotSegments")
+    void testRemoveDotSegments(final String path, final String expected) {
+        assertEquals(expected, UriResolver.removeDotSegments(path));
+    }
+
+    static final Stream<Arguments> dotSegments() {
+        return Stream.of(
+            arguments("/a/b/c/./../../g", "/a/g"),
+            arguments("mid/content=5/../6", "mid/6"),
+            arguments("/a/b/.", "/a/b/"),
+            arguments("/a/b/..", "/a/"),
+            arguments("../a", "a"),
+            arguments("./a/.", "a/"),
+            arguments("..", ""),
+            arguments("/a/.. ", "/a/.. "),
+            arguments("../ ", ""),
+            arguments(" ", ""),
+            arguments("/a b/c", "/a b/c"),
+            arguments(null, null)
+        );
+    }
+
     static final Stream<Arguments> data() {
         return Stream.of(
             arguments("file:///a/bb/ccc/d;p?q,", "g", "file:///a/bb/ccc/g"),
@@ -17,6 +17,8 @@ package com.apicatalog.rdf;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -24,6 +26,9 @@ import java.io.IOException;
 import org.junit.jupiter.api.Test;
 
 import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.context.cache.ConcurrentCache;
+import com.apicatalog.rdf.impl.DefaultRdfProvider;
+import com.apicatalog.rdf.spi.RdfProvider;
 
 class RdfApiTest {
 
@@ -56,4 +61,27 @@ class RdfApiTest {
         assertTrue(node.isBlankNode());
         assertEquals("_:bn1", node.getValue());
     }
+
+    @Test
+    void testTermDictionary() {
+
+        final RdfProvider provider = new DefaultRdfProvider(new ConcurrentCache<>(100));
+
+        assertSame(provider.createIRI("http://example.com/p"), provider.createIRI(new String("http://example.com/p")));
+        assertSame(provider.createBlankNode("bn1"), provider.createBlankNode("_:bn1"));
+
+        assertSame(
+                provider.createIRI("http://example.com/type").getValue(),
+                provider.createTypedString("1", new String("http://example.com/type")).getDatatype());
+
+        // the same value used as a blank node and an IRI
+        final RdfResource iri = provider.createIRI("_:bn2");
+        final RdfResource blankNode = provider.createBlankNode("_:bn2");
+
+        assertNotSame(iri, blankNode);
+        assertTrue(iri.isIRI());
+        assertTrue(blankNode.isBlankNode());
+
+        assertNotSame(DefaultRdfProvider.INSTANCE.createIRI("http://example.com/p"), DefaultRdfProvider.INSTANCE.createIRI("http://example.com/p"));
+    }
 }
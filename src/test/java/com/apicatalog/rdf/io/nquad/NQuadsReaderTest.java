@@ -22,16 +22,19 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.stream.Stream;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
 import com.apicatalog.rdf.io.error.RdfReaderException;
 import com.apicatalog.rdf.io.nquad.reader.NQuadsReaderTestCase;
 import com.apicatalog.rdf.io.nquad.reader.NQuadsReaderTestCase.Type;
@@ -72,6 +75,40 @@ class NQuadsReaderTest {
         }
     }
 
+    @Test
+    void testBufferBoundaries() throws RdfReaderException {
+
+        final StringBuilder iri = new StringBuilder("http://example.com/");
+
+        while (iri.length() < 40000) {
+            iri.append("abcdefgh");
+        }
+
+        final String nquads = "<" + iri + "> <http://example.com/p> _:b1.x.\n"
+                            + "_:b1.x <http://example.com/p> \"\\u00E9\\U0001F600\"@en-US . # comment\n";
+
+        // a reader returning one character per call
+        final Reader reader = new StringReader(nquads) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(1, len));
+            }
+        };
+
+        final RdfDataset dataset = new NQuadsReader(reader).readDataset();
+
+        assertEquals(2, dataset.size());
+
+        final RdfNQuad first = dataset.toList().get(0);
+        final RdfNQuad second = dataset.toList().get(1);
+
+        assertEquals(iri.toString(), first.getSubject().getValue());
+        assertEquals("_:b1.x", first.getObject().getValue());
+        assertEquals("_:b1.x", second.getSubject().getValue());
+        assertEquals("\u00E9\uD83D\uDE00", second.getObject().getValue());
+        assertEquals("en-US", second.getObject().asLiteral().getLanguage().orElse(null));
+    }
+
     static final Stream<NQuadsReaderTestCase> data() throws ZipException, IOException, URISyntaxException {
         return (new NQuadsReaderTestSuite(TEST_SUITE_NAME, TEST_CASE_BASE_PATH + "manifest.json")).load();
     }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.io.nquad;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.io.error.RdfReaderException;
+
+class ParallelNQuadsReaderTest {
+
+    static ForkJoinPool pool;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "\n", "\r", "\r\n" })
+    void testRead(final String eol) throws IOException, RdfReaderException {
+
+        final StringBuilder nquads = new StringBuilder();
+
+        for (int i = 0; i < 1000; i++) {
+            nquads.append("<http://example.com/s").append(i).append("> <http://example.com/p> \"é ").append(i).append("\"@en .").append(eol);
+            nquads.append("_:b").append(i).append(" <http://example.com/p> <http://example.com/o").append(i % 10).append("> _:g . # comment").append(eol);
+        }
+
+        final RdfDataset expected = new NQuadsReader(new StringReader(nquads.toString())).readDataset();
+
+        // chunks much smaller than the input, lines cross chunks
+        final RdfDataset dataset = new ParallelNQuadsReader(
+                                        new ByteArrayInputStream(nquads.toString().getBytes(StandardCharsets.UTF_8)),
+                                        pool,
+                                        100)
+                                    .readDataset();
+
+        assertEquals(2000, dataset.size());
+        assertEquals(expected.toList(), dataset.toList());
+    }
+
+    @Test
+    void testErrorLine() {
+
+        final StringBuilder nquads = new StringBuilder();
+
+        for (int i = 1; i < 500; i++) {
+            nquads.append("<http://example.com/s> <http://example.com/p> \"").append(i).append("\" .\n");
+        }
+
+        // line 500
+        nquads.append("<http://example.com/s> <http://example.com/p> .\n");
+
+        final RdfReaderException e = assertThrows(RdfReaderException.class,
+                        () -> new ParallelNQuadsReader(
+                                new ByteArrayInputStream(nquads.toString().getBytes(StandardCharsets.UTF_8)),
+                                pool,
+                                256)
+                            .readDataset());
+
+        assertTrue(e.getMessage().contains("Line 500."), e.getMessage());
+    }
+}
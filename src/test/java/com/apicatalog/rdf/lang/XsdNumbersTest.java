@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class XsdNumbersTest {
+
+    @Test
+    void testFormatDouble() {
+        assertEquals("0.0E0", XsdNumbers.formatDouble(0d));
+        assertEquals("-0.0E0", XsdNumbers.formatDouble(-0d));
+        assertEquals("1.0E0", XsdNumbers.formatDouble(1d));
+        assertEquals("1.1E0", XsdNumbers.formatDouble(1.1d));
+        assertEquals("-2.5E-3", XsdNumbers.formatDouble(-0.0025d));
+        assertEquals("1.23456E2", XsdNumbers.formatDouble(123.456d));
+        assertEquals("1.0E21", XsdNumbers.formatDouble(1e21d));
+        assertEquals("1.0E23", XsdNumbers.formatDouble(1e23d));
+        assertEquals("3.0000000000000004E-1", XsdNumbers.formatDouble(0.1d + 0.2d));
+        assertEquals("1.7976931348623157E308", XsdNumbers.formatDouble(Double.MAX_VALUE));
+        assertEquals("5.0E-324", XsdNumbers.formatDouble(Double.MIN_VALUE));
+        assertEquals("2.2250738585072014E-308", XsdNumbers.formatDouble(Double.MIN_NORMAL));
+        assertEquals("9.007199254740992E15", XsdNumbers.formatDouble(9007199254740992d));
+        assertEquals("INF", XsdNumbers.formatDouble(Double.POSITIVE_INFINITY));
+        assertEquals("-INF", XsdNumbers.formatDouble(Double.NEGATIVE_INFINITY));
+        assertEquals("NaN", XsdNumbers.formatDouble(Double.NaN));
+    }
+
+    @Test
+    void testFormatDoubleShortestRoundTrip() {
+
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+
+            final double value = i % 2 == 0
+                    ? Double.longBitsToDouble(random.nextLong())
+                    : random.nextInt() / Math.pow(10, random.nextInt(20));
+
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+
+            final String formatted = XsdNumbers.formatDouble(value);
+
+            assertEquals(value, XsdNumbers.parseDouble(formatted), formatted);
+            assertEquals(shortest(value), new BigDecimal(formatted).stripTrailingZeros(), formatted);
+        }
+    }
+
+    @Test
+    void testIsInteger() {
+        assertTrue(XsdNumbers.isInteger("0"));
+        assertTrue(XsdNumbers.isInteger("-12"));
+        assertTrue(XsdNumbers.isInteger("+0012"));
+        assertTrue(XsdNumbers.isInteger("123456789012345678901234567890"));
+        assertFalse(XsdNumbers.isInteger(""));
+        assertFalse(XsdNumbers.isInteger("-"));
+        assertFalse(XsdNumbers.isInteger("1.0"));
+        assertFalse(XsdNumbers.isInteger("1e2"));
+        assertFalse(XsdNumbers.isInteger(" 1"));
+    }
+
+    @Test
+    void testIsDouble() {
+        assertTrue(XsdNumbers.isDouble("1"));
+        assertTrue(XsdNumbers.isDouble("-1.5"));
+        assertTrue(XsdNumbers.isDouble("1."));
+        assertTrue(XsdNumbers.isDouble(".5"));
+        assertTrue(XsdNumbers.isDouble("1.1E0"));
+        assertTrue(XsdNumbers.isDouble("+2e-10"));
+        assertTrue(XsdNumbers.isDouble("INF"));
+        assertTrue(XsdNumbers.isDouble("-INF"));
+        assertTrue(XsdNumbers.isDouble("NaN"));
+        assertFalse(XsdNumbers.isDouble(""));
+        assertFalse(XsdNumbers.isDouble("."));
+        assertFalse(XsdNumbers.isDouble("E1"));
+        assertFalse(XsdNumbers.isDouble("1E"));
+        assertFalse(XsdNumbers.isDouble("1.0d"));
+        assertFalse(XsdNumbers.isDouble("-NaN"));
+        assertFalse(XsdNumbers.isDouble("Infinity"));
+        assertFalse(XsdNumbers.isDouble("0x1p3"));
+    }
+
+    @Test
+    void testParseDouble() {
+        assertEquals(Double.POSITIVE_INFINITY, XsdNumbers.parseDouble("INF"));
+        assertEquals(Double.NEGATIVE_INFINITY, XsdNumbers.parseDouble("-INF"));
+        assertEquals(-0.0025d, XsdNumbers.parseDouble("-2.5E-3"));
+        assertThrows(NumberFormatException.class, () -> XsdNumbers.parseDouble("1.0f"));
+    }
+
+    // the closest decimal with the least digits that reads back to the value
+    private static BigDecimal shortest(final double value) {
+
+        final BigDecimal exact = new BigDecimal(value);
+
+        for (int digits = 1; digits < 17; digits++) {
+
+            final BigDecimal candidate = exact.round(new MathContext(digits, RoundingMode.HALF_EVEN));
+
+            if (candidate.doubleValue() == value) {
+                return candidate.stripTrailingZeros();
+            }
+
+            // the interval is not symmetric at a power of two
+            final BigDecimal ulp = candidate.ulp();
+
+            for (final BigDecimal neighbour : new BigDecimal[] { candidate.add(ulp), candidate.subtract(ulp) }) {
+                if (neighbour.precision() == digits && neighbour.doubleValue() == value) {
+                    return neighbour.stripTrailingZeros();
+                }
+            }
+        }
+
+        return exact.round(new MathContext(17, RoundingMode.HALF_EVEN)).stripTrailingZeros();
+    }
+}